@@ -0,0 +1,37 @@
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":days"))
+    jmh(libs.guava)
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.add("--enable-preview")
+}
+
+// Run a subset with: ./gradlew :bench:jmh -Pbench=Day17
+jmh {
+    jmhVersion = libs.versions.jmh
+    benchmarkMode = listOf("thrpt")
+    timeUnit = "s"
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    jvmArgsAppend = listOf("--enable-preview")
+    resultFormat = "JSON"
+    findProperty("bench")?.let { includes = listOf(it.toString()) }
+}
@@ -0,0 +1,48 @@
+package aoc2023.day1;
+
+import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day1Benchmark {
+
+    final Day1 day1 = new Day1();
+
+    List<String> data;
+    MappedLines mapped;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day1.txt");
+        mapped = IO.mapResource("day1.txt");
+    }
+
+    @TearDown
+    public void tearDown() {
+        mapped.close();
+    }
+
+    // Day1 works straight on the lines, so there is no separate parsing step
+
+    @Benchmark
+    public int part1() {
+        return day1.part1(data);
+    }
+
+    @Benchmark
+    public int part1Mapped() {
+        return day1.part1(mapped);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day1.part2(data);
+    }
+}
@@ -0,0 +1,37 @@
+package aoc2023.day10;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day10Benchmark {
+
+    final Day10 day10 = new Day10();
+
+    List<String> data;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day10.txt");
+    }
+
+    @Benchmark
+    public Day10.PipeGrid parse() {
+        return new Day10.PipeGrid(data);
+    }
+
+    @Benchmark
+    public int part1() {
+        return day10.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day10.part2(data);
+    }
+}
@@ -0,0 +1,49 @@
+package aoc2023.day11;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day11Benchmark {
+
+    final Day11 day11 = new Day11();
+
+    List<String> data;
+    Day11.Image image;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day11.txt");
+        image = parse();
+    }
+
+    @Benchmark
+    public Day11.Image parse() {
+        return new Day11.Image(data);
+    }
+
+    @Benchmark
+    public long solve1() {
+        return image.allDistances(2);
+    }
+
+    @Benchmark
+    public long solve2() {
+        return image.allDistances(1_000_000);
+    }
+
+    @Benchmark
+    public long part1() {
+        return day11.part1(data);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day11.part2(data);
+    }
+}
@@ -0,0 +1,51 @@
+package aoc2023.day12;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day12Benchmark {
+
+    final Day12 day12 = new Day12();
+
+    List<String> data;
+    List<Day12.Row> rows;
+    List<Day12.Row> unfolded;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day12.txt");
+        rows = parse();
+        unfolded = rows.stream().map(r -> r.unfold(5)).toList();
+    }
+
+    @Benchmark
+    public List<Day12.Row> parse() {
+        return data.stream().map(Day12.Row::parse).toList();
+    }
+
+    @Benchmark
+    public long solve1() {
+        return rows.stream().mapToLong(Day12.Row::countArrangements).sum();
+    }
+
+    @Benchmark
+    public long solve2() {
+        return unfolded.stream().mapToLong(Day12.Row::countArrangements).sum();
+    }
+
+    @Benchmark
+    public long part1() {
+        return day12.part1(data);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day12.part2(data);
+    }
+}
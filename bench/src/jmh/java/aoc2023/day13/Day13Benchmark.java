@@ -0,0 +1,34 @@
+package aoc2023.day13;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day13Benchmark {
+
+    final Day13 day13 = new Day13();
+
+    List<String> data;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day13.txt");
+    }
+
+    // Day13 splits the grids privately, so only the full parts are measured
+
+    @Benchmark
+    public int part1() {
+        return day13.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day13.part2(data);
+    }
+}
@@ -0,0 +1,39 @@
+package aoc2023.day14;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day14Benchmark {
+
+    final Day14 day14 = new Day14();
+
+    List<String> data;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day14.txt");
+    }
+
+    // The platform is tilted in place, so solving always starts from a fresh parse
+
+    @Benchmark
+    public Day14.Platform parse() {
+        return new Day14.Platform(data);
+    }
+
+    @Benchmark
+    public int part1() {
+        return day14.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day14.part2(data);
+    }
+}
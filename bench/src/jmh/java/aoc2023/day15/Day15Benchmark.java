@@ -0,0 +1,38 @@
+package aoc2023.day15;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day15Benchmark {
+
+    final Day15 day15 = new Day15();
+
+    List<String> data;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day15.txt");
+    }
+
+    @Benchmark
+    public List<Day15.Instruction> parse() {
+        return Arrays.stream(data.getFirst().split(",")).map(Day15.Instruction::parse).toList();
+    }
+
+    @Benchmark
+    public int part1() {
+        return day15.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day15.part2(data);
+    }
+}
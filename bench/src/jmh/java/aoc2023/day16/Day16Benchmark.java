@@ -0,0 +1,49 @@
+package aoc2023.day16;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day16Benchmark {
+
+    final Day16 day16 = new Day16();
+
+    List<String> data;
+    Day16.Layout layout;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day16.txt");
+        layout = parse();
+    }
+
+    @Benchmark
+    public Day16.Layout parse() {
+        return new Day16.Layout(data);
+    }
+
+    @Benchmark
+    public int solve1() {
+        return layout.part1();
+    }
+
+    @Benchmark
+    public int solve2() {
+        return layout.part2();
+    }
+
+    @Benchmark
+    public int part1() {
+        return day16.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day16.part2(data);
+    }
+}
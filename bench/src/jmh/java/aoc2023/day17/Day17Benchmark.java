@@ -0,0 +1,49 @@
+package aoc2023.day17;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day17Benchmark {
+
+    final Day17 day17 = new Day17();
+
+    List<String> data;
+    Day17.Map map;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day17.txt");
+        map = parse();
+    }
+
+    @Benchmark
+    public Day17.Map parse() {
+        return new Day17.Map(data);
+    }
+
+    @Benchmark
+    public int solve1() {
+        return map.part1();
+    }
+
+    @Benchmark
+    public int solve2() {
+        return map.part2();
+    }
+
+    @Benchmark
+    public int part1() {
+        return day17.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day17.part2(data);
+    }
+}
@@ -0,0 +1,56 @@
+package aoc2023.day18;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day18Benchmark {
+
+    final Day18 day18 = new Day18();
+
+    List<String> data;
+    Day18.Plan plan1;
+    Day18.Plan plan2;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day18.txt");
+        plan1 = parse1();
+        plan2 = parse2();
+    }
+
+    @Benchmark
+    public Day18.Plan parse1() {
+        return Day18.Plan.parse1(data);
+    }
+
+    @Benchmark
+    public Day18.Plan parse2() {
+        return Day18.Plan.parse2(data);
+    }
+
+    @Benchmark
+    public long solve1() {
+        return plan1.part();
+    }
+
+    @Benchmark
+    public long solve2() {
+        return plan2.part();
+    }
+
+    @Benchmark
+    public long part1() {
+        return day18.part1(data);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day18.part2(data);
+    }
+}
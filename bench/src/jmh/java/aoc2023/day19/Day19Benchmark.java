@@ -0,0 +1,54 @@
+package aoc2023.day19;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day19Benchmark {
+
+    final Day19 day19 = new Day19();
+
+    List<String> data;
+    Day19.Parsed parsed;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day19.txt");
+        parsed = parse();
+    }
+
+    @Benchmark
+    public Day19.Parsed parse() {
+        return Day19.Parsed.parse(data);
+    }
+
+    @Benchmark
+    public int solve1() {
+        return parsed.parts().stream()
+                .filter(parsed.ruleBook()::check)
+                .mapToInt(part -> part.x() + part.m() + part.a() + part.s())
+                .sum();
+    }
+
+    @Benchmark
+    public long solve2() {
+        return parsed.ruleBook().check(Day19.MultiPart.make()).stream()
+                .mapToLong(Day19.MultiPart::range)
+                .sum();
+    }
+
+    @Benchmark
+    public int part1() {
+        return day19.part1(data);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day19.part2(data);
+    }
+}
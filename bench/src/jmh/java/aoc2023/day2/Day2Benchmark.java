@@ -0,0 +1,85 @@
+package aoc2023.day2;
+
+import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day2Benchmark {
+
+    final Day2 day2 = new Day2();
+
+    List<String> data;
+    List<Day2.Game> games;
+    MappedLines mapped;
+    Day2.Games columns;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day2.txt");
+        games = parse();
+        mapped = IO.mapResource("day2.txt");
+        columns = parseMapped();
+    }
+
+    @TearDown
+    public void tearDown() {
+        mapped.close();
+    }
+
+    @Benchmark
+    public List<Day2.Game> parse() {
+        return data.stream().map(Day2.Game::parse).toList();
+    }
+
+    @Benchmark
+    public Day2.Games parseMapped() {
+        return Day2.Games.parse(mapped.segment());
+    }
+
+    @Benchmark
+    public int solve1Columns() {
+        return columns.validIds();
+    }
+
+    @Benchmark
+    public int solve2Columns() {
+        return columns.powers();
+    }
+
+    @Benchmark
+    public int solve1() {
+        return games.stream().filter(Day2.Game::isValid).mapToInt(Day2.Game::id).sum();
+    }
+
+    @Benchmark
+    public int solve2() {
+        return games.stream().mapToInt(Day2.Game::power).sum();
+    }
+
+    @Benchmark
+    public int part1() {
+        return day2.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day2.part2(data);
+    }
+
+    @Benchmark
+    public int part1Mapped() {
+        return day2.part1(mapped);
+    }
+
+    @Benchmark
+    public int part2Mapped() {
+        return day2.part2(mapped);
+    }
+}
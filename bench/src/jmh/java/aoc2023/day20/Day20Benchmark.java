@@ -0,0 +1,39 @@
+package aoc2023.day20;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day20Benchmark {
+
+    final Day20 day20 = new Day20();
+
+    List<String> data;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day20.txt");
+    }
+
+    // Pushing the button mutates the modules, so solving always starts from a fresh parse
+
+    @Benchmark
+    public Day20.Configuration parse() {
+        return Day20.Configuration.parse(data);
+    }
+
+    @Benchmark
+    public long part1() {
+        return day20.part1(data);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day20.part2(data);
+    }
+}
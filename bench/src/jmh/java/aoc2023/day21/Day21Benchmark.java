@@ -0,0 +1,56 @@
+package aoc2023.day21;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day21Benchmark {
+
+    final Day21 day21 = new Day21();
+
+    List<String> data;
+    Day21.Map map;
+    Day21.InfiniteMap infiniteMap;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day21.txt");
+        map = parse1();
+        infiniteMap = parse2();
+    }
+
+    @Benchmark
+    public Day21.Map parse1() {
+        return new Day21.Map(data);
+    }
+
+    @Benchmark
+    public Day21.InfiniteMap parse2() {
+        return new Day21.InfiniteMap(data);
+    }
+
+    @Benchmark
+    public int solve1() {
+        return map.walk(64);
+    }
+
+    @Benchmark
+    public long solve2() {
+        return infiniteMap.walkQuadratic(26501365);
+    }
+
+    @Benchmark
+    public int part1() {
+        return day21.part1(data, 64);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day21.part2(data, 26501365);
+    }
+}
@@ -0,0 +1,45 @@
+package aoc2023.day22;
+
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
+import aoc2023.utils.IO;
+import com.google.common.collect.Streams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day22Benchmark {
+
+    final Day22 day22 = new Day22();
+
+    List<String> data;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day22.txt");
+    }
+
+    @Benchmark
+    public List<Day22.Brick> parse() {
+        return Streams.mapWithIndex(data.stream(), (s, id) -> Day22.Brick.parse(id, s)).sorted().toList();
+    }
+
+    @Benchmark
+    public Columns parseChunked() {
+        return ChunkedParser.parse(data, 6, Day22::columns);
+    }
+
+    @Benchmark
+    public int part1() {
+        return day22.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day22.part2(data);
+    }
+}
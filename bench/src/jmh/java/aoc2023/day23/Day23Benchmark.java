@@ -0,0 +1,61 @@
+package aoc2023.day23;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day23Benchmark {
+
+    final Day23 day23 = new Day23();
+
+    List<String> data;
+    Day23.Position start;
+    Day23.Position end;
+    Day23.Graph<Day23.Position> graph1;
+    Day23.Graph<Day23.Position> graph2;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day23.txt");
+        var width = data.getFirst().length();
+        start = new Day23.Position(1, 0);
+        end = new Day23.Position(width - 2, data.size() - 1);
+        graph1 = parse1();
+        graph2 = parse2();
+    }
+
+    @Benchmark
+    public Day23.Graph<Day23.Position> parse1() {
+        return new Day23.HikingTrailsMap(data).pathCompress(start, end);
+    }
+
+    @Benchmark
+    public Day23.Graph<Day23.Position> parse2() {
+        return new Day23.HikingTrailsMap2(data).pathCompress(start, end);
+    }
+
+    @Benchmark
+    public int solve1() {
+        return graph1.longestPath(start, end);
+    }
+
+    @Benchmark
+    public int solve2() {
+        return graph2.longestPath(start, end);
+    }
+
+    @Benchmark
+    public int part1() {
+        return day23.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day23.part2(data);
+    }
+}
@@ -0,0 +1,44 @@
+package aoc2023.day24;
+
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day24Benchmark {
+
+    final Day24 day24 = new Day24();
+
+    List<String> data;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day24.txt");
+    }
+
+    @Benchmark
+    public List<Day24.Hailstone3D> parse() {
+        return data.stream().map(Day24.Hailstone3D::parse).toList();
+    }
+
+    @Benchmark
+    public Columns parseChunked() {
+        return ChunkedParser.parse(data, 6, Day24::columns);
+    }
+
+    @Benchmark
+    public int part1() {
+        return day24.part1(data, 200000000000000L, 400000000000000L);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day24.part2(data, 300L, 5);
+    }
+}
@@ -0,0 +1,44 @@
+package aoc2023.day25;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day25Benchmark {
+
+    final Day25 day25 = new Day25();
+
+    List<String> data;
+    Day25.Graph graph;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day25.txt");
+        graph = parse();
+    }
+
+    @Benchmark
+    public Day25.Graph parse() {
+        var graph = new Day25.Graph();
+        data.forEach(graph::update);
+        return graph;
+    }
+
+    // part1 repeats Karger's contraction until it finds the 3-cut, so a single
+    // trial is the stable unit of work
+
+    @Benchmark
+    public Day25.Cut kargerTrial() {
+        return Day25.kargerMinCut(graph);
+    }
+
+    @Benchmark
+    public long part1() {
+        return day25.part1(data);
+    }
+}
@@ -0,0 +1,65 @@
+package aoc2023.day3;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day3Benchmark {
+
+    final Day3 day3 = new Day3();
+
+    List<String> data;
+    Day3.Schematic schematic;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day3.txt");
+        schematic = parse();
+    }
+
+    @Benchmark
+    public Day3.Schematic parse() {
+        return new Day3.Schematic(data);
+    }
+
+    @Benchmark
+    public int label() {
+        var fresh = parse();
+        return fresh.label(1, 1);
+    }
+
+    @Benchmark
+    public int solve1() {
+        return schematic.sumPartNumbers();
+    }
+
+    @Benchmark
+    public int solve2() {
+        return schematic.sumGearRatios();
+    }
+
+    @Benchmark
+    public Day3.Window window() {
+        return Day3.scan(data.stream());
+    }
+
+    @Benchmark
+    public Day3.Answers answers() {
+        return day3.answers(data);
+    }
+
+    @Benchmark
+    public int part1() {
+        return day3.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day3.part2(data);
+    }
+}
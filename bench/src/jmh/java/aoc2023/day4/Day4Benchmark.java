@@ -0,0 +1,51 @@
+package aoc2023.day4;
+
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day4Benchmark {
+
+    final Day4 day4 = new Day4();
+
+    List<String> data;
+    List<Day4.Card> cards;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day4.txt");
+        cards = parse();
+    }
+
+    @Benchmark
+    public List<Day4.Card> parse() {
+        return data.stream().map(Day4.Card::parse).toList();
+    }
+
+    @Benchmark
+    public Columns parseChunked() {
+        return ChunkedParser.parse(data, 2, Day4::columns);
+    }
+
+    @Benchmark
+    public int solve1() {
+        return cards.stream().mapToInt(Day4.Card::score).sum();
+    }
+
+    @Benchmark
+    public int part1() {
+        return day4.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day4.part2(data);
+    }
+}
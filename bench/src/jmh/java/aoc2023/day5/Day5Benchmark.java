@@ -0,0 +1,42 @@
+package aoc2023.day5;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day5Benchmark {
+
+    final Day5 day5 = new Day5();
+
+    List<String> data;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day5.txt");
+    }
+
+    @Benchmark
+    public Day5.Day5InputPart1 parse1() {
+        return Day5.Day5InputPart1.parse(data);
+    }
+
+    @Benchmark
+    public Day5.Day5InputPart2 parse2() {
+        return Day5.Day5InputPart2.parse(data);
+    }
+
+    @Benchmark
+    public long part1() {
+        return day5.part1(data);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day5.part2(data);
+    }
+}
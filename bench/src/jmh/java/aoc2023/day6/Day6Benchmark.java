@@ -0,0 +1,23 @@
+package aoc2023.day6;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class Day6Benchmark {
+
+    final Day6 day6 = new Day6();
+
+    // Day6 has its (tiny) input embedded, so there is nothing to parse
+
+    @Benchmark
+    public long part1() {
+        return day6.part1(day6.data1);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day6.part2(day6.data2);
+    }
+}
@@ -0,0 +1,54 @@
+package aoc2023.day7;
+
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day7Benchmark {
+
+    final Day7 day7 = new Day7();
+
+    List<String> data;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day7.txt");
+    }
+
+    @Benchmark
+    public List<Day7.Hand> parse1() {
+        return data.stream().map(Day7.Hand::parse1).toList();
+    }
+
+    @Benchmark
+    public List<Day7.Hand> parse2() {
+        return data.stream().map(Day7.Hand::parse2).toList();
+    }
+
+    @Benchmark
+    public Columns parseChunked1() {
+        return ChunkedParser.parse(data, 2, Day7::columns1);
+    }
+
+    @Benchmark
+    public Columns parseChunked2() {
+        return ChunkedParser.parse(data, 2, Day7::columns2);
+    }
+
+    @Benchmark
+    public long part1() {
+        return day7.part1(data);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day7.part2(data);
+    }
+}
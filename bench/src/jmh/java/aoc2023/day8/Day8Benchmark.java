@@ -0,0 +1,51 @@
+package aoc2023.day8;
+
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day8Benchmark {
+
+    final Day8 day8 = new Day8();
+
+    List<String> data;
+    Day8.InputPath path;
+    Day8.Tree tree;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day8.txt");
+        path = Day8.InputPath.parse(data.getFirst());
+        tree = parse();
+    }
+
+    @Benchmark
+    public Day8.Tree parse() {
+        return Day8.Tree.parse(data.subList(2, data.size()));
+    }
+
+    @Benchmark
+    public long solve1() {
+        return tree.simpleWalker().part1(path);
+    }
+
+    @Benchmark
+    public long solve2() {
+        return tree.multipleWalker().part2(path);
+    }
+
+    @Benchmark
+    public long part1() {
+        return day8.part1(data);
+    }
+
+    @Benchmark
+    public long part2() {
+        return day8.part2(data);
+    }
+}
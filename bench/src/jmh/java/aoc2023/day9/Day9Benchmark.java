@@ -0,0 +1,56 @@
+package aoc2023.day9;
+
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
+import aoc2023.utils.IO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class Day9Benchmark {
+
+    final Day9 day9 = new Day9();
+
+    List<String> data;
+    List<Day9.Line> lines;
+
+    @Setup
+    public void setup() {
+        data = IO.getResourceAsList("day9.txt");
+        lines = parse();
+    }
+
+    @Benchmark
+    public List<Day9.Line> parse() {
+        return data.stream().map(Day9.Line::parse).toList();
+    }
+
+    @Benchmark
+    public Columns parseChunked() {
+        return ChunkedParser.parse(data, 1, Day9::nextValues);
+    }
+
+    @Benchmark
+    public int solve1() {
+        return lines.stream().mapToInt(Day9.Line::nextValue).sum();
+    }
+
+    @Benchmark
+    public int solve2() {
+        return lines.stream().mapToInt(Day9.Line::previousValue).sum();
+    }
+
+    @Benchmark
+    public int part1() {
+        return day9.part1(data);
+    }
+
+    @Benchmark
+    public int part2() {
+        return day9.part2(data);
+    }
+}
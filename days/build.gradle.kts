@@ -55,6 +55,81 @@ tasks.withType<Test>().configureEach {
     jvmArgs("--enable-preview")
 }
 
+tasks.register<JavaExec>("runAll") {
+    description = "Solves every day in a single JVM and reports per-phase timings."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass = "aoc2023.runner.AllDays"
+    jvmArgs("--enable-preview")
+    // -Pcache=<file> reuses the answers of previous runs on the same inputs
+    findProperty("cache")?.let { systemProperty("aoc2023.cache", it) }
+}
 
+tasks.register<JavaExec>("generate") {
+    description = "Writes a synthetic input, e.g. -Pday=17 -Pscale=10000 -Pout=day17-10k.txt"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass = "aoc2023.generator.Generate"
+    jvmArgs("--enable-preview")
+    args(findProperty("day") ?: "1", findProperty("scale") ?: "1000", findProperty("seed") ?: "2023")
+    findProperty("out")?.let { args(it) }
+}
 
+tasks.register<JavaExec>("watch") {
+    description = "Solves a part again on every save of its input, e.g. -Pday=12 -Ppart=2 -Pfile=day12.txt"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass = "aoc2023.runner.Watch"
+    jvmArgs("--enable-preview")
+    args(findProperty("day") ?: "1", findProperty("part") ?: "1", findProperty("file") ?: "day1.txt")
+}
+
+tasks.register<JavaExec>("daemon") {
+    description = "Keeps a warm JVM answering solve requests, e.g. -Paddress=tcp:7023 (default: a Unix socket in tmp)"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass = "aoc2023.runner.SolverDaemon"
+    jvmArgs("--enable-preview")
+    findProperty("address")?.let { args(it) }
+    findProperty("cache")?.let { systemProperty("aoc2023.cache", it) }
+}
 
+// Class data sharing: AppCDS only archives classes loaded from jars, so these tasks run
+// from the jar rather than from the classes directories
+val cdsArchive = layout.buildDirectory.file("cds/aoc2023.jsa")
+val jarClasspath = files(tasks.jar) + configurations.runtimeClasspath.get()
+
+tasks.register<JavaExec>("cdsTrain") {
+    description = "Solves every day on small generated inputs and dumps the loaded classes into a CDS archive"
+    classpath = jarClasspath
+    mainClass = "aoc2023.runner.CdsTraining"
+    jvmArgs("--enable-preview", "-XX:ArchiveClassesAtExit=${cdsArchive.get().asFile}", "-Xlog:cds=error")
+    outputs.file(cdsArchive)
+}
+
+tasks.register("cdsLauncher") {
+    description = "Writes build/cds/aoc2023, a java launcher that starts from the CDS archive"
+    dependsOn("cdsTrain")
+    val launcher = layout.buildDirectory.file("cds/aoc2023")
+    outputs.file(launcher)
+    doLast {
+        launcher.get().asFile.apply {
+            writeText(
+                """
+                |#!/bin/sh
+                |# Runs a main class from the CDS archive, e.g. aoc2023 aoc2023.day17.Day17
+                |# or aoc2023 aoc2023.runner.Solve 17 1 input.txt
+                |exec "${'$'}{JAVA_HOME:+${'$'}JAVA_HOME/bin/}java" --enable-preview \
+                |  -XX:SharedArchiveFile=${cdsArchive.get().asFile} \
+                |  -cp ${jarClasspath.asPath} "${'$'}@"
+                |""".trimMargin()
+            )
+            setExecutable(true)
+        }
+    }
+}
+
+tasks.register<JavaExec>("cdsBenchmark") {
+    description = "Compares the startup of short solves with and without the CDS archive, e.g. -Pruns=20 -Pday=17"
+    dependsOn("cdsTrain")
+    classpath = jarClasspath
+    mainClass = "aoc2023.runner.StartupBenchmark"
+    jvmArgs("--enable-preview")
+    args(cdsArchive.get().asFile, findProperty("runs") ?: "10", findProperty("day") ?: "17")
+}
@@ -1,96 +1,248 @@
 package aoc2023.day1;
 
+import aoc2023.runner.Incremental;
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.IO;
-import com.google.common.collect.Comparators;
+import aoc2023.utils.MappedLines;
 
-import java.util.Arrays;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.regex.MatchResult;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public class Day1 {
 
-    final Finder digitsFinder = new Finder("1", "2", "3", "4", "5", "6", "7", "8", "9");
-    final Finder namesFinder = new Finder("one", "two", "three", "four", "five", "six", "seven", "eight", "nine");
-
-    record Appearance(int digit, int position) implements Comparable<Appearance> {
-        @Override
-        public int compareTo(Appearance o) {
-            return Integer.compare(position, o.position);
+    static final List<String> DIGITS = List.of("1", "2", "3", "4", "5", "6", "7", "8", "9");
+    static final List<String> NAMES = List.of("one", "two", "three", "four", "five", "six", "seven", "eight", "nine");
+
+    final Finder firstDigit = new Finder(false, DIGITS);
+    final Finder lastDigit = new Finder(true, DIGITS);
+    final Finder firstNumber = new Finder(false, DIGITS, NAMES);
+    final Finder lastNumber = new Finder(true, DIGITS, NAMES);
+
+    // An Aho-Corasick automaton over a few patterns, all in int arrays: one pass over the line
+    // whatever the number of patterns. The pattern at index i of a group stands for the digit
+    // i + 1. A backward finder is built on the reversed patterns and reads the line from its
+    // end, so the first match it sees is the one that starts last.
+    static final class Finder {
+        // char -> symbol of the automaton, 0 for the chars that are in no pattern
+        final byte[] symbols = new byte[128];
+        final int alphabet;
+        // state * alphabet + symbol -> next state, failure links already folded in
+        final int[] next;
+        // the digit and length of the longest pattern that ends in a state, 0 if none
+        final int[] digits;
+        final int[] lengths;
+        final int longest;
+        final boolean backward;
+
+        @SafeVarargs
+        Finder(boolean backward, List<String>... groups) {
+            this.backward = backward;
+            var patterns = new ArrayList<String>();
+            var values = new ArrayList<Integer>();
+            int symbolCount = 1;
+            for (var group : groups) {
+                for (int i = 0; i < group.size(); i++) {
+                    var pattern = group.get(i);
+                    if (backward) pattern = new StringBuilder(pattern).reverse().toString();
+                    patterns.add(pattern);
+                    values.add(i + 1);
+                    for (var c : pattern.toCharArray()) {
+                        if (symbols[c] == 0) symbols[c] = (byte) symbolCount++;
+                    }
+                }
+            }
+            alphabet = symbolCount;
+            var states = 1 + patterns.stream().mapToInt(String::length).sum();
+            var trie = new int[states * alphabet];
+            digits = new int[states];
+            lengths = new int[states];
+            int count = 1;
+            for (int p = 0; p < patterns.size(); p++) {
+                var pattern = patterns.get(p);
+                int state = 0;
+                for (var c : pattern.toCharArray()) {
+                    var index = state * alphabet + symbols[c];
+                    if (trie[index] == 0) trie[index] = count++;
+                    state = trie[index];
+                }
+                digits[state] = values.get(p);
+                lengths[state] = pattern.length();
+            }
+            longest = patterns.stream().mapToInt(String::length).max().orElse(0);
+
+            // breadth first, so the failure of a state is complete before its children need it
+            next = trie;
+            var failure = new int[count];
+            var queue = new int[count];
+            int head = 0, tail = 0;
+            for (int symbol = 1; symbol < alphabet; symbol++) {
+                if (trie[symbol] != 0) queue[tail++] = trie[symbol];
+            }
+            while (head < tail) {
+                var state = queue[head++];
+                if (digits[state] == 0) {
+                    digits[state] = digits[failure[state]];
+                    lengths[state] = lengths[failure[state]];
+                }
+                for (int symbol = 1; symbol < alphabet; symbol++) {
+                    var index = state * alphabet + symbol;
+                    var fallback = next[failure[state] * alphabet + symbol];
+                    if (trie[index] != 0) {
+                        failure[trie[index]] = fallback;
+                        queue[tail++] = trie[index];
+                    } else {
+                        next[index] = fallback;
+                    }
+                }
+            }
         }
 
-        static int toIntValue(Appearance first, Appearance last) {
-            return 10 * first.digit() + last.digit();
+        int step(int state, char c) {
+            return c < 128 ? next[state * alphabet + symbols[c]] : 0;
         }
-    }
 
-    static class Finder {
-        final List<String> names;
-        final Pattern pattern;
-
-        Finder(String... names) {
-            this.names = Arrays.asList(names);
-            var regexp = this.names.stream().reduce((a, b) -> a + "|" + b).orElseThrow();
-            this.pattern = Pattern.compile(regexp);
+        // The digit of the first pattern (last one for a backward finder) in the line, 0 if none
+        int find(CharSequence line) {
+            return backward ? findLast(line) : findFirst(line);
         }
 
-        Appearance findFirst(String line) {
-            var firstMatch = pattern.matcher(line).results().findFirst();
-            int firstWordPosition = firstMatch.map(MatchResult::start).orElse(Integer.MAX_VALUE);
-            var firstWordString = firstMatch.map(MatchResult::group).orElse("");
-            return new Appearance(names.indexOf(firstWordString) + 1, firstWordPosition);
+        // Matches show up in the order they end; a longer one that ends later can still start
+        // first, so the scan goes on until no pattern could start before the best match.
+        private int findFirst(CharSequence line) {
+            int state = 0;
+            int digit = 0;
+            int start = Integer.MAX_VALUE;
+            for (int i = 0; i < line.length() && i - longest < start - 1; i++) {
+                state = step(state, line.charAt(i));
+                if (digits[state] != 0 && i - lengths[state] + 1 < start) {
+                    start = i - lengths[state] + 1;
+                    digit = digits[state];
+                }
+            }
+            return digit;
         }
 
-        Optional<MatchResult> lastMatch(String line) {
-            var matcher = pattern.matcher(line);
-            MatchResult last = null;
-            var start = 0;
-            while (matcher.find(start)) {
-                last = matcher.toMatchResult();
-                start = last.start() + 1;
+        // Reading backward a match ends where it starts in the line: the first one wins
+        private int findLast(CharSequence line) {
+            int state = 0;
+            for (int i = line.length() - 1; i >= 0; i--) {
+                state = step(state, line.charAt(i));
+                if (digits[state] != 0) return digits[state];
             }
-            return Optional.ofNullable(last);
+            return 0;
         }
+    }
 
-        Appearance findLast(String line) {
-            var lastMatch = lastMatch(line);
-            int lastWordPosition = lastMatch.map(MatchResult::start).orElse(Integer.MIN_VALUE);
-            var lastWordString = lastMatch.map(MatchResult::group).orElse("");
-            return new Appearance(names.indexOf(lastWordString) + 1, lastWordPosition);
-        }
+    int calibrationValue1(CharSequence line) {
+        return 10 * firstDigit.find(line) + lastDigit.find(line);
     }
 
-    int calibrationValue1(String line) {
-        var first = digitsFinder.findFirst(line);
-        var last = digitsFinder.findLast(line);
-        return Appearance.toIntValue(first, last);
+    int part1(Stream<? extends CharSequence> lines) {
+        return lines.mapToInt(this::calibrationValue1).sum();
     }
 
     int part1(List<String> data) {
-        return data.stream().mapToInt(this::calibrationValue1).sum();
+        return part1(data.stream());
+    }
+
+    int part1(MappedLines lines) {
+        return part1(lines.segment());
+    }
+
+    static final ValueLayout.OfLong WORD = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final long ONES = 0x0101010101010101L;
+    static final long HIGHS = 0x8080808080808080L;
+    static final long LOWS = 0x7f7f7f7f7f7f7f7fL;
+
+    // The high bit of every byte of word that is a digit from 1 to 9, the same digits as the
+    // finders. Keeping the high bits out of the sums means no carry crosses a byte, so the
+    // mask is exact.
+    static long digits(long word) {
+        var offsets = word ^ (ONES * '0');
+        var low = offsets & LOWS;
+        return ~(low + ONES * (0x80 - 10)) & (low + LOWS) & ~offsets & HIGHS;
+    }
+
+    // The high bit of every byte of word that is a '\n'
+    static long newlines(long word) {
+        var offsets = word ^ (ONES * '\n');
+        return ~(((offsets & LOWS) + LOWS) | offsets) & HIGHS;
     }
 
-    int calibrationValue2(String line) {
-        var firstDigit = digitsFinder.findFirst(line);
-        var lastDigit = digitsFinder.findLast(line);
-        var firstName = namesFinder.findFirst(line);
-        var lastName = namesFinder.findLast(line);
-        var first = Comparators.min(firstDigit, firstName);
-        var last = Comparators.max(lastDigit, lastName);
-        return Appearance.toIntValue(first, last);
+    // Part 1 straight on the bytes of the document, eight at a time: a word without digits
+    // or line ends (most of them) is skipped at once, otherwise only the bytes flagged by
+    // the masks are looked at. The bytes after the last full word go through the scalar loop.
+    int part1(MemorySegment document) {
+        var size = document.byteSize();
+        int sum = 0;
+        int first = -1;
+        int last = 0;
+        long position = 0;
+        for (; position + Long.BYTES <= size; position += Long.BYTES) {
+            var word = document.get(WORD, position);
+            var flagged = digits(word) | newlines(word);
+            while (flagged != 0) {
+                var shift = Long.numberOfTrailingZeros(flagged) - 7;
+                var c = (int) (word >>> shift) & 0xff;
+                if (c == '\n') {
+                    if (first >= 0) sum += 10 * first + last;
+                    first = -1;
+                } else {
+                    last = c - '0';
+                    if (first < 0) first = last;
+                }
+                flagged &= flagged - 1;
+            }
+        }
+        for (; position < size; position++) {
+            var c = document.get(ValueLayout.JAVA_BYTE, position);
+            if (c == '\n') {
+                if (first >= 0) sum += 10 * first + last;
+                first = -1;
+            } else if (c >= '1' && c <= '9') {
+                last = c - '0';
+                if (first < 0) first = last;
+            }
+        }
+        if (first >= 0) sum += 10 * first + last;
+        return sum;
+    }
+
+    int calibrationValue2(CharSequence line) {
+        return 10 * firstNumber.find(line) + lastNumber.find(line);
+    }
+
+    int part2(Stream<? extends CharSequence> lines) {
+        return lines.mapToInt(this::calibrationValue2).sum();
     }
 
     int part2(List<String> data) {
-        return data.stream().mapToInt(this::calibrationValue2).sum();
+        return part2(data.stream());
+    }
+
+    public static Puzzle puzzle() {
+        var day1 = new Day1();
+        return Puzzle.of(1, day1::part1, day1::part2);
+    }
+
+    public static Incremental incremental() {
+        var day1 = new Day1();
+        return Incremental.lines(1, List.of(day1::calibrationValue1, day1::calibrationValue2));
     }
 
     public static void main(String[] args) {
         var day1 = new Day1();
-        var data = IO.getResourceAsList("day1.txt");
-        var part1 = day1.part1(data);
-        System.out.println("part1 = " + part1);
-        var part2 = day1.part2(data);
-        System.out.println("part2 = " + part2);
+        try (var lines = IO.mapResource("day1.txt")) {
+            var part1 = day1.part1(lines);
+            System.out.println("part1 = " + part1);
+        }
+        try (var lines = IO.streamResource("day1.txt")) {
+            var part2 = day1.part2(lines);
+            System.out.println("part2 = " + part2);
+        }
     }
 }
@@ -1,7 +1,10 @@
 package aoc2023.day10;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.CharGrid;
+import aoc2023.utils.Coordinates;
 import aoc2023.utils.IO;
+import aoc2023.utils.LongHashSet;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -25,6 +28,10 @@ public class Day10 {
         Position west() {
             return new Position(x - 1, y);
         }
+
+        long packed() {
+            return Coordinates.pack(x, y);
+        }
     }
 
     static class PipeGrid extends CharGrid {
@@ -44,10 +51,6 @@ public class Day10 {
             return at(p.x(), p.y());
         }
 
-        private char at(int x, int y) {
-            return points[y][x];
-        }
-
         boolean canGoEast(Position p) {
             return "J-7".indexOf(at(p)) != -1;
         }
@@ -194,14 +197,14 @@ public class Day10 {
             return inside;
         }
 
-        record Loop(Set<Position> positions) {
+        record Loop(LongHashSet positions) {
 
             boolean contains(Position position) {
-                return positions.contains(position);
+                return positions.contains(position.packed());
             }
 
             boolean contains(int x, int y) {
-                return contains(new Position(x, y));
+                return positions.contains(Coordinates.pack(x, y));
             }
 
             int length() {
@@ -210,24 +213,22 @@ public class Day10 {
         }
 
         private Loop bfs(Position start) {
-            Queue<Position> queue = new LinkedList<>();
-            Map<Position, Integer> distance = new HashMap<>();
+            Queue<Position> queue = new ArrayDeque<>();
+            var visited = new LongHashSet();
 
             queue.add(start);
-            distance.put(start, 0);
+            visited.add(start.packed());
 
             while (!queue.isEmpty()) {
                 Position position = queue.poll();
-                int dist = distance.get(position);
 
                 for (var nextPos : validNextPositions(position)) {
-                    if (!distance.containsKey(nextPos)) {
-                        distance.put(nextPos, dist + 1);
+                    if (visited.add(nextPos.packed())) {
                         queue.add(nextPos);
                     }
                 }
             }
-            return new Loop(distance.keySet());
+            return new Loop(visited);
         }
 
         private void addIfValid(Collection<Position> positions, Predicate<Position> isValid,
@@ -276,16 +277,21 @@ public class Day10 {
     }
 
     int part1(List<String> data) {
-        var pipeGrid = new PipeGrid(data);
+        var pipeGrid = CharGrid.parse("Day10.parse", data, PipeGrid::new);
         return pipeGrid.bfs(pipeGrid.start).length();
     }
 
     int part2(List<String> data) {
-        var pipeGrid = new PipeGrid(data);
+        var pipeGrid = CharGrid.parse("Day10.parse", data, PipeGrid::new);
         var loop = pipeGrid.bfs(pipeGrid.start);
         return pipeGrid.countInsideNodes(loop);
     }
 
+    public static Puzzle puzzle() {
+        var day10 = new Day10();
+        return Puzzle.of(10, day10::part1, day10::part2);
+    }
+
     public static void main(String[] args) {
         var day10 = new Day10();
         var data = IO.getResourceAsList("day10.txt");
@@ -51,10 +51,6 @@ public class Day10Alt {
             return at(p.x(), p.y());
         }
 
-        private char at(int x, int y) {
-            return points[y][x];
-        }
-
         boolean canGoEast(Position p) {
             return "J-7".indexOf(at(p)) != -1;
         }
@@ -162,12 +158,12 @@ public class Day10Alt {
     }
 
     int part1(List<String> data) {
-        var pipeGrid = new PipeGrid(data);
+        var pipeGrid = CharGrid.parse("Day10Alt.parse", data, PipeGrid::new);
         return pipeGrid.traverseLoop(pipeGrid.start).length();
     }
 
     int part2(List<String> data) {
-        var pipeGrid = new PipeGrid(data);
+        var pipeGrid = CharGrid.parse("Day10Alt.parse", data, PipeGrid::new);
         var loop = pipeGrid.traverseLoop(pipeGrid.start);
         return loop.inner();
     }
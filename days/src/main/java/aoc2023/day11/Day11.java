@@ -1,5 +1,6 @@
 package aoc2023.day11;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.CharGrid;
 import aoc2023.utils.IO;
 
@@ -33,7 +34,7 @@ public class Day11 {
             emptyCols = new HashSet<>(IntStream.rangeClosed(1, height).boxed().toList());
             for (int y = 1; y < height + 1; y++)
                 for (int x = 1; x < width + 1; x++)
-                    if (points[y][x] == '#') {
+                    if (at(x, y) == '#') {
                         galaxies.add(new Galaxy(x, y));
                         emptyCols.remove(x);
                         emptyRows.remove(y);
@@ -67,11 +68,16 @@ public class Day11 {
     }
 
     long part1(List<String> data) {
-        return new Image(data).allDistances(2);
+        return CharGrid.parse("Day11.parse", data, Image::new).allDistances(2);
     }
 
     long part2(List<String> data) {
-        return new Image(data).allDistances(1_000_000);
+        return CharGrid.parse("Day11.parse", data, Image::new).allDistances(1_000_000);
+    }
+
+    public static Puzzle puzzle() {
+        var day11 = new Day11();
+        return Puzzle.of(11, day11::part1, day11::part2);
     }
 
     public static void main(String[] args) {
@@ -1,6 +1,10 @@
 package aoc2023.day12;
 
+import aoc2023.runner.Incremental;
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.IO;
+import aoc2023.utils.Metrics;
+import aoc2023.utils.Scratch;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -8,14 +12,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 
 public class Day12 {
 
     record Row(String condition, List<Integer> lengths) {
 
-        static Row parse(String line) {
-            String[] parts = line.split(" ");
+        static Row parse(CharSequence line) {
+            String[] parts = line.toString().split(" ");
             String condition = parts[0] + "$"; // We add a marker
             List<Integer> lengths = Arrays.stream(parts[1].split(","))
                     .map(Integer::parseInt)
@@ -33,16 +38,40 @@ public class Day12 {
             return new Row(newCondition, newLengths);
         }
 
+        static final Metrics.Counter memoHits = Metrics.counter("day12.memo.hits");
+        static final Metrics.Counter memoMisses = Metrics.counter("day12.memo.misses");
+
+        // The memo table of one row, with its hits tallied locally: the counters are updated
+        // once per row rather than at every step of the recursion
+        static final class Memo {
+            final HashMap<String, Long> table = new HashMap<>();
+            long hits;
+
+            void clear() {
+                table.clear();
+                hits = 0;
+            }
+        }
+
+        static final Scratch<Memo> memos = Scratch.of(Memo::new, Memo::clear);
+
         long countArrangements() {
-            var memo = new HashMap<String, Long>();
-            return countArrangements(condition, lengths, 0, memo);
+            var memo = memos.get();
+            var result = countArrangements(condition, lengths, 0, memo);
+            memoHits.add(memo.hits);
+            // every miss stores its result
+            memoMisses.add(memo.table.size());
+            return result;
         }
 
         static long countArrangements(String conditions, List<Integer> lengths, int currentBlock,
-                                      HashMap<String, Long> memo) {
+                                      Memo memo) {
             var key = conditions + lengths.toString() + currentBlock;
-            if (memo.containsKey(key))
-                return memo.get(key);
+            var known = memo.table.get(key);
+            if (known != null) {
+                memo.hits++;
+                return known;
+            }
             // Conditions is never empty
             char c = conditions.charAt(0);
             long result = switch (c) {
@@ -80,7 +109,7 @@ public class Day12 {
                         currentBlock, memo);
                 default -> throw new AssertionError("cannot happen");
             };
-            memo.put(key, result);
+            memo.table.put(key, result);
             return result;
         }
     }
@@ -93,27 +122,50 @@ public class Day12 {
         return i;
     }
 
-    long part1(List<String> data) {
-        return data.stream()
+    long part1(Stream<? extends CharSequence> lines) {
+        return lines
                 .map(Row::parse)
                 .mapToLong(Row::countArrangements)
                 .sum();
     }
 
-    long part2(List<String> data) {
-        return data.stream()
+    long part2(Stream<? extends CharSequence> lines) {
+        return lines
                 .map(Row::parse)
                 .map(r -> r.unfold(5))
                 .mapToLong(Row::countArrangements)
                 .sum();
     }
 
+    long part1(List<String> data) {
+        return part1(data.stream());
+    }
+
+    long part2(List<String> data) {
+        return part2(data.stream());
+    }
+
+    public static Puzzle puzzle() {
+        var day12 = new Day12();
+        return Puzzle.of(12, day12::part1, day12::part2);
+    }
+
+    public static Incremental incremental() {
+        return Incremental.lines(12, List.of(
+                line -> Row.parse(line).countArrangements(),
+                line -> Row.parse(line).unfold(5).countArrangements()));
+    }
+
     public static void main(String[] args) {
         var day12 = new Day12();
-        var data = IO.getResourceAsList("day12.txt");
-        var part1 = day12.part1(data);
-        System.out.println("part1 = " + part1);
-        var part2 = day12.part2(data);
-        System.out.println("part2 = " + part2);
+        try (var lines = IO.streamResource("day12.txt")) {
+            var part1 = day12.part1(lines);
+            System.out.println("part1 = " + part1);
+        }
+        try (var lines = IO.streamResource("day12.txt")) {
+            var part2 = day12.part2(lines);
+            System.out.println("part2 = " + part2);
+        }
+        Metrics.dump("day12.", System.out);
     }
 }
@@ -1,6 +1,9 @@
 package aoc2023.day13;
 
+import aoc2023.runner.Incremental;
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.IO;
+import aoc2023.utils.PhaseEvent;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -79,6 +82,7 @@ public class Day13 {
     }
 
     private List<Grid> parse(List<String> data) {
+        var event = PhaseEvent.start();
         var result = new ArrayList<Grid>();
         var grid = new ArrayList<String>();
         for (var line : data) {
@@ -91,6 +95,7 @@ public class Day13 {
         }
         if (!grid.isEmpty())
             result.add(new Grid(grid));
+        event.finish("Day13.parse", data.size(), result.size());
         return result;
     }
 
@@ -104,6 +109,17 @@ public class Day13 {
         return grids.stream().mapToInt(Grid::part2).sum();
     }
 
+    public static Puzzle puzzle() {
+        var day13 = new Day13();
+        return Puzzle.of(13, day13::part1, day13::part2);
+    }
+
+    public static Incremental incremental() {
+        return Incremental.blocks(13, List.of(
+                block -> new Grid(block.lines().toList()).part1(),
+                block -> new Grid(block.lines().toList()).part2()));
+    }
+
     public static void main(String[] args) {
         var day13 = new Day13();
         var data = IO.getResourceAsList("day13.txt");
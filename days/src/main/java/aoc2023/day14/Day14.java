@@ -1,5 +1,6 @@
 package aoc2023.day14;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.CharGrid;
 import aoc2023.utils.IO;
 
@@ -14,67 +15,37 @@ public class Day14 {
         }
 
         void tiltNorth() {
-            for (int x = 0; x < width; x++)
-                for (int y = 1; y < height; y++) {
-                    char c = points[y][x];
-                    if (c == 'O') {
-                        for (int yy = y - 1; yy >= 0; yy--) {
-                            char cc = points[yy][x];
-                            if (cc == '.') {
-                                points[yy][x] = 'O';
-                                points[yy + 1][x] = '.';
-                            } else break;
-                        }
-                    }
-                }
+            tilt(0, width, 1, stride, height);
         }
 
         void tiltWest() {
-            for (int y = 0; y < height; y++)
-                for (int x = 1; x < width; x++) {
-                    char c = points[y][x];
-                    if (c == 'O') {
-                        for (int xx = x - 1; xx >= 0; xx--) {
-                            char cc = points[y][xx];
-                            if (cc == '.') {
-                                points[y][xx] = 'O';
-                                points[y][xx + 1] = '.';
-                            } else break;
-                        }
-                    }
-                }
+            tilt(0, height, stride, 1, width);
         }
 
         void tiltSouth() {
-            for (int x = 0; x < width; x++)
-                for (int y = height - 2; y >= 0; y--) {
-                    char c = points[y][x];
-                    if (c == 'O') {
-                        for (int yy = y + 1; yy < height; yy++) {
-                            char cc = points[yy][x];
-                            if (cc == '.') {
-                                points[yy][x] = 'O';
-                                points[yy - 1][x] = '.';
-                            } else break;
-                        }
-                    }
-                }
+            tilt(index(0, height - 1), width, 1, -stride, height);
         }
 
         void tiltEast() {
-            for (int y = 0; y < height; y++)
-                for (int x = width - 2; x >= 0; x--) {
-                    char c = points[y][x];
-                    if (c == 'O') {
-                        for (int xx = x + 1; xx < width; xx++) {
-                            char cc = points[y][xx];
-                            if (cc == '.') {
-                                points[y][xx] = 'O';
-                                points[y][xx - 1] = '.';
-                            } else break;
+            tilt(index(width - 1, 0), height, stride, -1, width);
+        }
+
+        // Rolls the rocks of each line towards its first cell: the lines start at
+        // first, first + lineStep, ... and their cells are cellStep apart.
+        private void tilt(int first, int lines, int lineStep, int cellStep, int lineLength) {
+            for (int l = 0, line = first; l < lines; l++, line += lineStep) {
+                var free = line; // where the next rolling rock stops
+                for (int n = 0, i = line; n < lineLength; n++, i += cellStep) {
+                    switch (at(i)) {
+                        case 'O' -> {
+                            set(i, '.');
+                            set(free, 'O');
+                            free += cellStep;
                         }
+                        case '#' -> free = i + cellStep;
                     }
                 }
+            }
         }
 
         void cycle() {
@@ -88,20 +59,20 @@ public class Day14 {
             int total = 0;
             for (int y = 0; y < height; y++)
                 for (int x = 0; x < width; x++)
-                    if (points[y][x] == 'O')
+                    if (at(x, y) == 'O')
                         total += height - y;
             return total;
         }
     }
 
     int part1(List<String> data) {
-        var platform = new Platform(data);
+        var platform = CharGrid.parse("Day14.parse", data, Platform::new);
         platform.tiltNorth();
         return platform.totalLoadNorthBeam();
     }
 
     int part2(List<String> data) {
-        var platform = new Platform(data);
+        var platform = CharGrid.parse("Day14.parse", data, Platform::new);
         int cycles = 1_000_000_000;
         var visited = new HashMap<String, Integer>();
         visited.put(platform.toString(), 0);
@@ -123,6 +94,11 @@ public class Day14 {
         return platform.totalLoadNorthBeam();
     }
 
+    public static Puzzle puzzle() {
+        var day14 = new Day14();
+        return Puzzle.of(14, day14::part1, day14::part2);
+    }
+
     public static void main(String[] args) {
         var day14 = new Day14();
         var data = IO.getResourceAsList("day14.txt");
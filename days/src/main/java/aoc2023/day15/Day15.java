@@ -1,5 +1,6 @@
 package aoc2023.day15;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.IO;
 
 import java.util.Arrays;
@@ -113,6 +114,11 @@ public class Day15 {
         return boxes.totalFocusingPower();
     }
 
+    public static Puzzle puzzle() {
+        var day15 = new Day15();
+        return Puzzle.of(15, day15::part1, day15::part2);
+    }
+
     public static void main(String[] args) {
         var day15 = new Day15();
         var data = IO.getResourceAsList("day15.txt");
@@ -1,11 +1,13 @@
 package aoc2023.day16;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.CharGrid;
 import aoc2023.utils.IO;
+import aoc2023.utils.IntHashSet;
+import aoc2023.utils.LongHashSet;
 
 import java.util.ArrayDeque;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -81,6 +83,11 @@ public class Day16 {
             super(data, true, '$');
         }
 
+        // For grids loaded off-heap with CharGrid.load(path, '$')
+        Layout(CharGrid grid) {
+            super(grid);
+        }
+
         int part1() {
             var start = new Beam(0, 1, Direction.RiGHT);
             return energiseFrom(start);
@@ -89,12 +96,12 @@ public class Day16 {
         private int energiseFrom(Beam start) {
             var beams = new ArrayDeque<Beam>();
             beams.addLast(start);
-            var visited = new HashSet<Beam>();
+            var visited = new LongHashSet();
             while (!beams.isEmpty()) {
                 var beam = beams.removeFirst();
-                if (!visited.add(beam)) continue;
+                if (!visited.add(key(beam))) continue;
                 var next = beam.next();
-                var on = points[next.y()][next.x()];
+                var on = at(next.x(), next.y());
                 switch (on) {
                     case '$' -> {
                     }
@@ -125,12 +132,18 @@ public class Day16 {
             return energised(visited);
         }
 
-        private int energised(HashSet<Beam> visited) {
-            var result = new HashSet<Position>();
-            for (var beam : visited) {
-                if (points[beam.y()][beam.x()] != '$')
-                    result.add(new Position(beam.x(), beam.y()));
-            }
+        // a beam is its cell index with the heading in the two lowest bits
+        private long key(Beam beam) {
+            return (long) index(beam.x(), beam.y()) << 2 | beam.heading().ordinal();
+        }
+
+        private int energised(LongHashSet visited) {
+            var result = new IntHashSet(visited.size());
+            visited.forEach(key -> {
+                var cell = (int) (key >>> 2);
+                if (at(cell) != '$')
+                    result.add(cell);
+            });
             return result.size();
         }
 
@@ -148,15 +161,20 @@ public class Day16 {
     }
 
     int part1(List<String> data) {
-        var layout = new Layout(data);
+        var layout = CharGrid.parse("Day16.parse", data, Layout::new);
         return layout.part1();
     }
 
     int part2(List<String> data) {
-        var layout = new Layout(data);
+        var layout = CharGrid.parse("Day16.parse", data, Layout::new);
         return layout.part2();
     }
 
+    public static Puzzle puzzle() {
+        var day16 = new Day16();
+        return Puzzle.of(16, day16::part1, day16::part2);
+    }
+
     public static void main(String[] args) {
         var day16 = new Day16();
         var data = IO.getResourceAsList("day16.txt");
@@ -1,9 +1,12 @@
 package aoc2023.day17;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.CharGrid;
 import aoc2023.utils.IO;
+import aoc2023.utils.LongHashSet;
+import aoc2023.utils.Metrics;
+import aoc2023.utils.Scratch;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.PriorityQueue;
@@ -69,13 +72,6 @@ public class Day17 {
         public int compareTo(State o) {
             return Integer.compare(heatLoss + heuristic, o.heatLoss + o.heuristic);
         }
-
-        record Key(Bobby bobby, int counter) {
-        }
-
-        Key key() {
-            return new Key(bobby, counter); // to not repeat states the counter is needed
-        }
     }
 
     static class Map extends CharGrid {
@@ -83,31 +79,60 @@ public class Day17 {
             super(data, '#');
         }
 
+        // For grids loaded off-heap with CharGrid.load(path, '#')
+        public Map(CharGrid grid) {
+            super(grid);
+        }
+
         int heatLoss(Position p) {
-            return points[p.y()][p.x()] - '0';
+            return at(p.x(), p.y()) - '0';
+        }
+
+        // cell index, direction (2 bits) and counter (4 bits, at most 10): to not repeat
+        // states the counter is needed
+        long key(State state) {
+            var p = state.bobby().position();
+            return (long) index(p.x(), p.y()) << 6
+                    | state.bobby().direction().ordinal() << 4
+                    | state.counter();
         }
 
         int heuristic(Position p) { // We know the end is the bottom right corner
             return Math.abs(p.x() - width) + Math.abs(p.y() - height);
         }
 
+        static final Metrics.Counter expanded = Metrics.counter("day17.expanded");
+        static final Metrics.Gauge queuePeak = Metrics.gauge("day17.queue.peak");
+
+        static final Scratch<PriorityQueue<State>> queues = Scratch.of(PriorityQueue::new, PriorityQueue::clear);
+        static final Scratch<LongHashSet> visitedSets = Scratch.of(LongHashSet::new, LongHashSet::clear);
+
         int part(int minStraight, int maxStraight) {
             var end = new Position(width, height);
-            var queue = new PriorityQueue<State>();
-            var visited = new HashSet<State.Key>();
+            var queue = queues.get();
+            var visited = visitedSets.get();
             var p1 = new Position(2, 1);
             queue.add(new State(heatLoss(p1), heuristic(p1), new Bobby(p1, Direction.RIGHT), 1));
             var p2 = new Position(1, 2);
             queue.add(new State(heatLoss(p2), heuristic(p2), new Bobby(p2, Direction.DOWN), 1));
-            while (!queue.isEmpty()) {
-                var current = queue.remove();
-                if (!visited.add(current.key()))
-                    continue;
-                if (current.bobby().position().equals(end) && minStraight <= current.counter() && current.counter() <= maxStraight)
-                    return current.heatLoss;
-                queue.addAll(expand(current, minStraight, maxStraight));
+            var expansions = 0L;
+            var peak = 0;
+            try {
+                while (!queue.isEmpty()) {
+                    var current = queue.remove();
+                    if (!visited.add(key(current)))
+                        continue;
+                    if (current.bobby().position().equals(end) && minStraight <= current.counter() && current.counter() <= maxStraight)
+                        return current.heatLoss;
+                    queue.addAll(expand(current, minStraight, maxStraight));
+                    expansions++;
+                    peak = Math.max(peak, queue.size());
+                }
+                throw new IllegalStateException("no path found");
+            } finally {
+                expanded.add(expansions);
+                queuePeak.record(peak);
             }
-            throw new IllegalStateException("no path found");
         }
 
         List<State> expand(State state, int minStraight, int maxStraight) {
@@ -124,7 +149,7 @@ public class Day17 {
             if (state.counter() >= maxStraight)
                 return Optional.empty();
             var next = state.bobby().straight();
-            if (points[next.position().y()][next.position().x()] == '#')
+            if (at(next.position().x(), next.position().y()) == '#')
                 return Optional.empty();
             var heatLoss = heatLoss(next.position());
             return Optional.of(new State(state.heatLoss() + heatLoss, heuristic(next.position()), next, state.counter() + 1));
@@ -134,7 +159,7 @@ public class Day17 {
             if (state.counter() < minStraight)
                 return Optional.empty();
             var next = state.bobby().left();
-            if (points[next.position().y()][next.position().x()] == '#')
+            if (at(next.position().x(), next.position().y()) == '#')
                 return Optional.empty();
             var heatLoss = heatLoss(next.position());
             return Optional.of(new State(state.heatLoss() + heatLoss, heuristic(next.position()), next, 1));
@@ -144,7 +169,7 @@ public class Day17 {
             if (state.counter() < minStraight)
                 return Optional.empty();
             var next = state.bobby().right();
-            if (points[next.position().y()][next.position().x()] == '#')
+            if (at(next.position().x(), next.position().y()) == '#')
                 return Optional.empty();
             var heatLoss = heatLoss(next.position());
             return Optional.of(new State(state.heatLoss() + heatLoss, heuristic(next.position()), next, 1));
@@ -160,15 +185,20 @@ public class Day17 {
     }
 
     int part1(List<String> data) {
-        var map = new Map(data);
+        var map = CharGrid.parse("Day17.parse", data, Map::new);
         return map.part1();
     }
 
     int part2(List<String> data) {
-        var map = new Map(data);
+        var map = CharGrid.parse("Day17.parse", data, Map::new);
         return map.part2();
     }
 
+    public static Puzzle puzzle() {
+        var day17 = new Day17();
+        return Puzzle.of(17, day17::part1, day17::part2);
+    }
+
     public static void main(String[] args) {
         var day17 = new Day17();
         var data = IO.getResourceAsList("day17.txt");
@@ -176,5 +206,6 @@ public class Day17 {
         System.out.println("part1 = " + part1);
         var part2 = day17.part2(data);
         System.out.println("part2 = " + part2);
+        Metrics.dump("day17.", System.out);
     }
 }
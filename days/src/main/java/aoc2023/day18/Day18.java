@@ -1,9 +1,13 @@
 package aoc2023.day18;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.IO;
+import aoc2023.utils.PhaseEvent;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public class Day18 {
 
@@ -44,16 +48,16 @@ public class Day18 {
     }
 
     record Instruction(Direction direction, long distance) implements UnaryOperator<Position> {
-        static Instruction parse1(String data) {
-            var parts = data.split(" ");
+        static Instruction parse1(CharSequence data) {
+            var parts = data.toString().split(" ");
             var direction = Direction.of(parts[0].charAt(0));
             var distance = Long.parseLong(parts[1]);
             return new Instruction(direction, distance);
         }
 
-        public static Instruction parse2(String data) {
+        public static Instruction parse2(CharSequence data) {
             var directions = "RDLU";
-            var parts = data.split(" ");
+            var parts = data.toString().split(" ");
             var encodedDistance = parts[2].substring(2, 7);
             var encodedDirection = parts[2].charAt(7);
             var direction = Direction.of(directions.charAt(encodedDirection - '0'));
@@ -70,55 +74,86 @@ public class Day18 {
     record Plan(List<Instruction> instructions) {
 
         static Plan parse1(List<String> data) {
-            return new Plan(data.stream().map(Instruction::parse1).toList());
+            var event = PhaseEvent.start();
+            var plan = new Plan(data.stream().map(Instruction::parse1).toList());
+            event.finish("Day18.Plan.parse1", data.size(), plan.instructions().size());
+            return plan;
         }
 
         static Plan parse2(List<String> data) {
-            return new Plan(data.stream().map(Instruction::parse2).toList());
+            var event = PhaseEvent.start();
+            var plan = new Plan(data.stream().map(Instruction::parse2).toList());
+            event.finish("Day18.Plan.parse2", data.size(), plan.instructions().size());
+            return plan;
         }
 
         long part() {
+            var lagoon = new Lagoon();
+            instructions.forEach(lagoon);
+            return lagoon.size();
+        }
+    }
+
+    // The shoelace sums, updated as the instructions go by, so that the plan never has to be
+    // held in memory
+    static final class Lagoon implements Consumer<Instruction> {
+        private Position position = new Position(0, 0);
+        private long area;
+        private long perimeter;
+
+        @Override
+        public void accept(Instruction instruction) {
+            var next = instruction.apply(position);
+            area += position.product(next);
+            perimeter += instruction.distance();
+            position = next;
+        }
+
+        long size() {
             // Shoelace uses cartesian coordinates, problem uses integer coordinates.
             // This causes a difference between problem's area and shoelace area.
             // For example, digging from (0,0) to (0,6) gives a Cartesian length of 6,
             // but for the sake of the problem that should count as 7,
             // since both endpoints are included: #######
             // So we can calculate the perimeter, add its half, plus 1 (because off by 1).
-            return area() + perimeter() / 2 + 1;
+            return Math.abs(area / 2) + perimeter / 2 + 1;
         }
+    }
 
-        private long perimeter() {
-            return instructions.stream().mapToLong(i -> i.distance).sum();
-        }
+    long part1(Stream<? extends CharSequence> lines) {
+        var lagoon = new Lagoon();
+        lines.map(Instruction::parse1).forEachOrdered(lagoon);
+        return lagoon.size();
+    }
 
-        private long area() {
-            long area = 0;
-            var position = new Position(0, 0);
-            for (var instruction : instructions) {
-                var next = instruction.apply(position);
-                area += position.product(next);
-                position = next;
-            }
-            return Math.abs(area / 2);
-        }
+    long part2(Stream<? extends CharSequence> lines) {
+        var lagoon = new Lagoon();
+        lines.map(Instruction::parse2).forEachOrdered(lagoon);
+        return lagoon.size();
     }
 
     long part1(List<String> data) {
-        var plan = Plan.parse1(data);
-        return plan.part();
+        return part1(data.stream());
     }
 
     long part2(List<String> data) {
-        var plan = Plan.parse2(data);
-        return plan.part();
+        return part2(data.stream());
+    }
+
+    public static Puzzle puzzle() {
+        var day18 = new Day18();
+        return Puzzle.of(18, day18::part1, day18::part2);
     }
 
     public static void main(String[] args) {
         var day18 = new Day18();
-        var data = IO.getResourceAsList("day18.txt");
-        var part1 = day18.part1(data);
-        System.out.println("part1 = " + part1);
-        var part2 = day18.part2(data);
-        System.out.println("part2 = " + part2);
+        try (var lines = IO.streamResource("day18.txt")) {
+            var part1 = day18.part1(lines);
+            System.out.println("part1 = " + part1);
+        }
+        try (var lines = IO.streamResource("day18.txt")) {
+            var part2 = day18.part2(lines);
+            System.out.println("part2 = " + part2);
+        }
     }
 }
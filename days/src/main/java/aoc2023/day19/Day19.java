@@ -1,7 +1,12 @@
 package aoc2023.day19;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.IO;
+import aoc2023.utils.NumberScanner;
+import aoc2023.utils.PhaseEvent;
+import aoc2023.utils.Scratch;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -19,13 +24,13 @@ public class Day19 {
                     .toList();
         }
 
-        public static Part parse(String data) {
+        public static Part parse(CharSequence data) {
             // {x=172,m=2372,a=1091,s=1657}
-            var parts = data.substring(1, data.length() - 1).split(",");
-            var x = Integer.parseInt(parts[0].substring(2));
-            var m = Integer.parseInt(parts[1].substring(2));
-            var a = Integer.parseInt(parts[2].substring(2));
-            var s = Integer.parseInt(parts[3].substring(2));
+            var scanner = new NumberScanner(data);
+            var x = scanner.nextInt();
+            var m = scanner.nextInt();
+            var a = scanner.nextInt();
+            var s = scanner.nextInt();
             return new Part(x, m, a, s);
         }
     }
@@ -79,9 +84,12 @@ public class Day19 {
             } while (true);
         }
 
+        static final Scratch<ArrayDeque<Work>> workQueues = Scratch.of(ArrayDeque::new, ArrayDeque::clear);
+
         public List<MultiPart> check(MultiPart multiPart) {
+            var event = PhaseEvent.start();
             var accepted = new ArrayList<MultiPart>();
-            var work = new ArrayList<Work>();
+            var work = workQueues.get();
             work.add(new Work(multiPart, new Destination.GoTo("in")));
             while (!work.isEmpty()) {
                 var next = work.removeFirst();
@@ -97,6 +105,7 @@ public class Day19 {
                     // do nothing
                 }
             }
+            event.finish("Day19.RuleBook.check", workflows.size(), accepted.size());
             return accepted;
         }
     }
@@ -305,6 +314,7 @@ public class Day19 {
 
     record Parsed(RuleBook ruleBook, List<Part> parts) {
         static Parsed parse(List<String> data) {
+            var event = PhaseEvent.start();
             var first = new ArrayList<String>();
             var second = new ArrayList<String>();
             var firstDone = false;
@@ -317,7 +327,9 @@ public class Day19 {
                     first.add(line);
                 }
             }
-            return new Parsed(RuleBook.parse(first), Part.parse(second));
+            var parsed = new Parsed(RuleBook.parse(first), Part.parse(second));
+            event.finish("Day19.Parsed.parse", data.size(), first.size() + second.size());
+            return parsed;
         }
     }
 
@@ -387,6 +399,11 @@ public class Day19 {
                 .sum();
     }
 
+    public static Puzzle puzzle() {
+        var day19 = new Day19();
+        return Puzzle.of(19, day19::part1, day19::part2);
+    }
+
     public static void main(String[] args) {
         var day19 = new Day19();
         var data = IO.getResourceAsList("day19.txt");
@@ -1,89 +1,211 @@
 package aoc2023.day2;
 
+import aoc2023.runner.Incremental;
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
+import aoc2023.utils.PhaseEvent;
 
-import java.util.HashMap;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public class Day2 {
 
-    enum Color {
-        RED, GREEN, BLUE
-    }
-
-    record Game(int id, Map<Color, Integer> cubes) {
+    record Game(int id, int red, int green, int blue) {
 
         static final int MAX_RED = 12;
         static final int MAX_GREEN = 13;
         static final int MAX_BLUE = 14;
 
         boolean isValid() {
-            return cubes.getOrDefault(Color.RED, 0) <= MAX_RED
-                    && cubes.getOrDefault(Color.GREEN, 0) <= MAX_GREEN
-                    && cubes.getOrDefault(Color.BLUE, 0) <= MAX_BLUE;
+            return Games.isValid(red, green, blue);
         }
 
         int power() {
-            return cubes.getOrDefault(Color.RED, 0)
-                    * cubes.getOrDefault(Color.GREEN, 0)
-                    * cubes.getOrDefault(Color.BLUE, 0);
+            return red * green * blue;
         }
 
-        static Game parse(String line) {
-            // parses using a regular expression the line and returns the maximum number of cubes if
-            // each color that are present in the line
+        static Game parse(CharSequence line) {
+            // the maximum number of cubes of each color that are present in the line
             // Lines have the format:
             //    Game 1: 3 blue, 4 red; 1 red, 2 green, 6 blue; 2 green
             //    Game 2: 1 blue, 2 green; 3 green, 4 blue, 1 red; 1 green, 1 blue
-            //    Game 3: 8 green, 6 blue, 20 red; 5 blue, 4 red, 13 green; 5 green, 1 red
-            //    Game 4: 1 green, 3 red, 6 blue; 3 green, 6 red; 3 green, 15 blue, 14 red
-            //    Game 5: 6 red, 1 blue, 3 green; 2 blue, 1 red, 2 green
             // the result, for the first one, would be:
-            //    RED -> 4, GREEN -> 2, BLUE -> 6
-
-            Map<Color, Integer> counters = new HashMap<>();
-            String regex = "Game (\\d+):|((\\d+)\\s+(blue|red|green))";
-            Pattern pattern = Pattern.compile(regex);
-            Matcher matcher = pattern.matcher(line);
-
-            int gameId = 0;
-            while (matcher.find()) {
-                if (matcher.group(1) != null) {
-                    gameId = Integer.parseInt(matcher.group(1));
-                } else {
-                    int number = Integer.parseInt(matcher.group(3));
-                    Color color = Color.valueOf(matcher.group(4).toUpperCase());
-                    counters.put(color, Math.max(counters.getOrDefault(color, 0), number));
+            //    red 4, green 2, blue 6
+            var games = new Games(1);
+            games.add(line);
+            return games.game(0);
+        }
+    }
+
+    // The games as columns, one row per line: the id, then the most cubes of each color in
+    // three parallel arrays. The scanner reads one char at a time without looking back: a
+    // number followed by ':' is the id, a number followed by a letter is a count of the color
+    // starting with that letter, anything else is skipped.
+    static final class Games {
+        int size;
+        int[] ids;
+        int[] reds;
+        int[] greens;
+        int[] blues;
+
+        // the line being scanned
+        private int number;
+        private boolean counted;
+        private boolean started;
+        private int id, red, green, blue;
+
+        Games(int capacity) {
+            ids = new int[capacity];
+            reds = new int[capacity];
+            greens = new int[capacity];
+            blues = new int[capacity];
+        }
+
+        static Games parse(Stream<? extends CharSequence> lines) {
+            var event = PhaseEvent.start();
+            var games = new Games(128);
+            lines.forEach(games::add);
+            event.finish("Day2.Games.parse", games.size, games.size);
+            return games;
+        }
+
+        static Games parse(MemorySegment document) {
+            var event = PhaseEvent.start();
+            var games = new Games(128);
+            var size = document.byteSize();
+            for (long i = 0; i < size; i++) {
+                games.accept(document.get(ValueLayout.JAVA_BYTE, i));
+            }
+            games.endLine();
+            event.finish("Day2.Games.parse", games.size, games.size);
+            return games;
+        }
+
+        void add(CharSequence line) {
+            for (int i = 0; i < line.length(); i++) {
+                accept(line.charAt(i));
+            }
+            endLine();
+        }
+
+        private void accept(int c) {
+            if (c >= '0' && c <= '9') {
+                number = number * 10 + c - '0';
+                counted = true;
+            } else if (c == '\n') {
+                endLine();
+            } else if (c == ':') {
+                id = number;
+                number = 0;
+                counted = false;
+            } else if (counted && c != ' ') {
+                switch (c) {
+                    case 'r' -> red = Math.max(red, number);
+                    case 'g' -> green = Math.max(green, number);
+                    case 'b' -> blue = Math.max(blue, number);
+                    default -> {
+                    }
                 }
+                number = 0;
+                counted = false;
+            }
+            if (c != '\n' && c != '\r') started = true;
+        }
+
+        private void endLine() {
+            if (started) {
+                if (size == ids.length) {
+                    var capacity = size * 2;
+                    ids = Arrays.copyOf(ids, capacity);
+                    reds = Arrays.copyOf(reds, capacity);
+                    greens = Arrays.copyOf(greens, capacity);
+                    blues = Arrays.copyOf(blues, capacity);
+                }
+                ids[size] = id;
+                reds[size] = red;
+                greens[size] = green;
+                blues[size] = blue;
+                size++;
+            }
+            number = 0;
+            counted = false;
+            started = false;
+            id = red = green = blue = 0;
+        }
+
+        Game game(int row) {
+            return new Game(ids[row], reds[row], greens[row], blues[row]);
+        }
+
+        static boolean isValid(int red, int green, int blue) {
+            return red <= Game.MAX_RED && green <= Game.MAX_GREEN && blue <= Game.MAX_BLUE;
+        }
+
+        int validIds() {
+            int sum = 0;
+            for (int row = 0; row < size; row++) {
+                if (isValid(reds[row], greens[row], blues[row])) sum += ids[row];
+            }
+            return sum;
+        }
+
+        int powers() {
+            int sum = 0;
+            for (int row = 0; row < size; row++) {
+                sum += reds[row] * greens[row] * blues[row];
             }
-            return new Game(gameId, counters);
+            return sum;
         }
     }
 
+    int part1(Stream<? extends CharSequence> lines) {
+        return Games.parse(lines).validIds();
+    }
+
+    int part2(Stream<? extends CharSequence> lines) {
+        return Games.parse(lines).powers();
+    }
+
     int part1(List<String> data) {
-        return data.stream()
-                .map(Game::parse)
-                .filter(Game::isValid)
-                .mapToInt(Game::id)
-                .sum();
+        return part1(data.stream());
     }
 
     int part2(List<String> data) {
-        return data.stream()
-                .map(Game::parse)
-                .mapToInt(Game::power)
-                .sum();
+        return part2(data.stream());
     }
 
-    public static void main(String[] args) {
+    int part1(MappedLines lines) {
+        return Games.parse(lines.segment()).validIds();
+    }
+
+    int part2(MappedLines lines) {
+        return Games.parse(lines.segment()).powers();
+    }
+
+    public static Puzzle puzzle() {
         var day2 = new Day2();
-        var data = IO.getResourceAsList("day2.txt");
-        var part1 = day2.part1(data);
-        System.out.println("part1 = " + part1);
-        var part2 = day2.part2(data);
-        System.out.println("part2 = " + part2);
+        return Puzzle.of(2, day2::part1, day2::part2);
+    }
+
+    public static Incremental incremental() {
+        return Incremental.lines(2, List.of(
+                line -> {
+                    var game = Game.parse(line);
+                    return game.isValid() ? game.id() : 0;
+                },
+                line -> Game.parse(line).power()));
+    }
+
+    public static void main(String[] args) {
+        // one scan of the mapped file answers both parts
+        try (var lines = IO.mapResource("day2.txt")) {
+            var games = Games.parse(lines.segment());
+            System.out.println("part1 = " + games.validIds());
+            System.out.println("part2 = " + games.powers());
+        }
     }
 }
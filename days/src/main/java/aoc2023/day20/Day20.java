@@ -1,7 +1,10 @@
 package aoc2023.day20;
 
+import aoc2023.runner.Puzzle;
+import aoc2023.utils.CsrGraph;
 import aoc2023.utils.GCRT;
 import aoc2023.utils.IO;
+import aoc2023.utils.PhaseEvent;
 
 import java.util.*;
 
@@ -15,7 +18,7 @@ public class Day20 {
         long countLow = 0L;
         long countHight = 0L;
 
-        final Queue<Configuration.Message> queue = new LinkedList<>();
+        final Queue<Configuration.Message> queue = new ArrayDeque<>();
 
         void add(Configuration.Message message) {
             if (message.pulse == Pulse.LOW) {
@@ -39,33 +42,33 @@ public class Day20 {
         }
     }
 
+    // Modules only hold their state; who they send to is the wiring of the Configuration.
+    // Modules are known by their vertex id in that wiring.
     static abstract class Module {
         final protected String name;
-        final protected List<String> destinations;
 
-        Module(String name, List<String> destinations) {
+        Module(String name) {
             this.name = name;
-            this.destinations = destinations;
         }
 
-        abstract List<Configuration.Message> process(String from, Pulse pulse);
+        // The pulse sent to every destination, or null when nothing is sent
+        abstract Pulse process(int from, Pulse pulse);
     }
 
     static class Broadcaster extends Module {
-        Broadcaster(String name, List<String> destinations) {
-            super(name, destinations);
+        Broadcaster(String name) {
+            super(name);
         }
 
         @Override
-        List<Configuration.Message> process(String from, Pulse pulse) {
-            return destinations.stream().map(d -> new Configuration.Message(name, d, pulse)).toList();
+        Pulse process(int from, Pulse pulse) {
+            return pulse;
         }
 
         @Override
         public String toString() {
             return "Broadcaster{" +
                     "name='" + name + '\'' +
-                    ", destinations=" + destinations +
                     '}';
         }
     }
@@ -73,18 +76,18 @@ public class Day20 {
     static class FlipFlop extends Module {
         Pulse state;
 
-        FlipFlop(String name, List<String> destinations) {
-            super(name, destinations);
+        FlipFlop(String name) {
+            super(name);
             state = Pulse.LOW;
         }
 
         @Override
-        List<Configuration.Message> process(String from, Pulse pulse) {
+        Pulse process(int from, Pulse pulse) {
             if (pulse == Pulse.LOW) {
                 state = state == Pulse.LOW ? Pulse.HIGH : Pulse.LOW;
-                return destinations.stream().map(d -> new Configuration.Message(name, d, state)).toList();
+                return state;
             } else {
-                return List.of();
+                return null;
             }
         }
 
@@ -92,51 +95,57 @@ public class Day20 {
         public String toString() {
             return "FlipFlop{" +
                     "name='" + name + '\'' +
-                    ", destinations=" + destinations +
                     ", state=" + state +
                     '}';
         }
     }
 
     static class Conjunction extends Module {
-        Map<String, Pulse> state;
+        // the last pulse from every module, by id; null for the modules that are not inputs
+        Pulse[] state;
+        int inputs;
+        int highs;
 
-        Conjunction(String name, List<String> destinations) {
-            super(name, destinations);
-            state = new HashMap<>();
+        Conjunction(String name) {
+            super(name);
         }
 
-        void addInput(String input) {
-            state.put(input, Pulse.LOW);
+        void addInput(int input, int modules) {
+            if (state == null) {
+                state = new Pulse[modules];
+            }
+            if (state[input] == null) {
+                state[input] = Pulse.LOW;
+                inputs++;
+            }
         }
 
         @Override
-        List<Configuration.Message> process(String from, Pulse pulse) {
-            state.put(from, pulse);
-            if (state.values().stream().allMatch(p -> p == Pulse.HIGH)) {
-                return destinations.stream().map(d -> new Configuration.Message(name, d, Pulse.LOW)).toList();
-            } else {
-                return destinations.stream().map(d -> new Configuration.Message(name, d, Pulse.HIGH)).toList();
+        Pulse process(int from, Pulse pulse) {
+            if (state[from] != pulse) {
+                highs += pulse == Pulse.HIGH ? 1 : -1;
+                state[from] = pulse;
             }
+            return highs == inputs ? Pulse.LOW : Pulse.HIGH;
         }
 
         @Override
         public String toString() {
             return "Conjunction{" +
                     "name='" + name + '\'' +
-                    ", destinations=" + destinations +
-                    ", state=" + state +
+                    ", inputs=" + inputs +
+                    ", highs=" + highs +
                     '}';
         }
 
         static class Untyped extends Module {
             Untyped(String name) {
-                super(name, List.of());
+                super(name);
             }
 
             @Override
-            List<Configuration.Message> process(String from, Pulse pulse) {
-                return List.of();
+            Pulse process(int from, Pulse pulse) {
+                return null;
             }
 
             @Override
@@ -149,14 +158,16 @@ public class Day20 {
     }
 
     static class Button {
-        final Module broadcaster;
+        final int button;
+        final int broadcaster;
 
-        Button(Module broadcaster) {
+        Button(int button, int broadcaster) {
+            this.button = button;
             this.broadcaster = broadcaster;
         }
 
         Configuration.Message push() {
-            return new Configuration.Message("button", "broadcaster", Pulse.LOW);
+            return new Configuration.Message(button, broadcaster, Pulse.LOW);
         }
 
         @Override
@@ -168,63 +179,84 @@ public class Day20 {
     }
 
     static class Configuration {
-        final Map<String, Module> modules;
+        // who sends to whom; the button is wired to the broadcaster like any other module
+        final CsrGraph<String> wiring;
+        final Module[] modules;
         final Button button;
 
-        Configuration(Map<String, Module> modules, Button button) {
+        Configuration(CsrGraph<String> wiring, Module[] modules, Button button) {
+            this.wiring = wiring;
             this.modules = modules;
             this.button = button;
         }
 
         static Configuration parse(List<String> data) {
-            var modules = new HashMap<String, Module>();
+            var event = PhaseEvent.start();
+            var builder = new CsrGraph.Builder<String>();
+            builder.edge("button", "broadcaster");
+            var parsed = new HashMap<String, Module>();
             for (var line : data) {
                 var parts = line.split("->");
-                var name = parts[0].trim();
-                var destinations = Arrays.stream(parts[1].split(",")).map(String::trim).toList();
-                var module = parseModule(name, destinations);
-                modules.put(module.name, module);
+                var module = parseModule(parts[0].trim());
+                parsed.put(module.name, module);
+                builder.vertex(module.name);
+                for (var destination : parts[1].split(",")) {
+                    builder.edge(module.name, destination.trim());
+                }
+            }
+            var wiring = builder.build();
+            var modules = new Module[wiring.size()];
+            for (int id = 0; id < modules.length; id++) {
+                var name = wiring.name(id);
+                modules[id] = parsed.getOrDefault(name, new Conjunction.Untyped(name));
             }
-            var button = new Button(modules.get("broadcaster"));
-            addInputs(modules);
-            return new Configuration(modules, button);
+            addInputs(wiring, modules);
+            var button = new Button(wiring.id("button"), wiring.id("broadcaster"));
+            event.finish("Day20.Configuration.parse", data.size(), modules.length);
+            return new Configuration(wiring, modules, button);
         }
 
-        private static void addInputs(HashMap<String, Module> modules) {
-            for (var module : modules.values()) {
-                for (var destination : module.destinations) {
-                    var destinationModule = modules.get(destination);
-                    if (destinationModule instanceof Conjunction conjunction) {
-                        conjunction.addInput(module.name);
+        private static void addInputs(CsrGraph<String> wiring, Module[] modules) {
+            for (int id = 0; id < modules.length; id++) {
+                for (int edge = wiring.start(id); edge < wiring.end(id); edge++) {
+                    if (modules[wiring.target(edge)] instanceof Conjunction conjunction) {
+                        conjunction.addInput(id, modules.length);
                     }
                 }
             }
         }
 
-        private static Module parseModule(String name, List<String> destinations) {
+        private static Module parseModule(String name) {
             if (name.startsWith("%")) {
-                return new FlipFlop(name.substring(1), destinations);
+                return new FlipFlop(name.substring(1));
             } else if (name.startsWith("&")) {
-                return new Conjunction(name.substring(1), destinations);
+                return new Conjunction(name.substring(1));
             } else if (name.equals("broadcaster")) {
-                return new Broadcaster(name, destinations);
+                return new Broadcaster(name);
             } else {
                 throw new IllegalArgumentException("Unknown module type: " + name);
             }
         }
 
-        record Message(String origin, String destination, Pulse pulse) {
+        record Message(int origin, int destination, Pulse pulse) {
         }
 
         final QueueCounter ongoing = new QueueCounter();
 
+        private void deliver(Message message) {
+            var destination = message.destination;
+            var pulse = modules[destination].process(message.origin, message.pulse);
+            if (pulse != null) {
+                for (int edge = wiring.start(destination); edge < wiring.end(destination); edge++) {
+                    ongoing.add(new Message(destination, wiring.target(edge), pulse));
+                }
+            }
+        }
+
         void pushButtonOnce() {
             ongoing.add(button.push());
             while (!ongoing.isEmpty()) {
-                var message = ongoing.poll();
-                var module = modules.getOrDefault(message.destination, new Conjunction.Untyped(message.destination));
-                var messages = module.process(message.origin, message.pulse);
-                messages.forEach(ongoing::add);
+                deliver(ongoing.poll());
             }
         }
 
@@ -237,13 +269,14 @@ public class Day20 {
         @Override
         public String toString() {
             return "Configuration{" +
-                    "modules=" + modules +
+                    "modules=" + Arrays.toString(modules) +
                     ", button=" + button +
                     '}';
         }
 
         List<Long> whenHigh(Set<String> names) {
-            names = new HashSet<>(names);
+            var pending = new HashSet<Integer>();
+            names.forEach(name -> pending.add(wiring.id(name)));
             var counters = new ArrayList<Long>();
             long counter = 0;
             do {
@@ -251,15 +284,12 @@ public class Day20 {
                 counter++;
                 while (!ongoing.isEmpty()) {
                     var message = ongoing.poll();
-                    if (names.contains(message.origin) && message.pulse == Pulse.HIGH) {
-                        names.remove(message.origin);
+                    if (message.pulse == Pulse.HIGH && pending.remove(message.origin)) {
                         counters.add(counter);
                     }
-                    var module = modules.getOrDefault(message.destination, new Conjunction.Untyped(message.destination));
-                    var messages = module.process(message.origin, message.pulse);
-                    messages.forEach(ongoing::add);
+                    deliver(message);
                 }
-            } while (!names.isEmpty());
+            } while (!pending.isEmpty());
             return counters;
         }
     }
@@ -284,6 +314,11 @@ public class Day20 {
         return GCRT.lcm(configuration.whenHigh(Set.of("xl", "ln", "xp", "gp")));
     }
 
+    public static Puzzle puzzle() {
+        var day20 = new Day20();
+        return Puzzle.of(20, day20::part1, day20::part2);
+    }
+
     public static void main(String[] args) {
         var day20 = new Day20();
         var data = IO.getResourceAsList("day20.txt");
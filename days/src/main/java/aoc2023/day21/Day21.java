@@ -1,7 +1,10 @@
 package aoc2023.day21;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.CharGrid;
+import aoc2023.utils.Coordinates;
 import aoc2023.utils.IO;
+import aoc2023.utils.LongHashSet;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -29,6 +32,14 @@ public class Day21 {
                     .map(d -> d.apply(p))
                     .toList();
         }
+
+        long packed() {
+            return Coordinates.pack(x, y);
+        }
+
+        static Position unpack(long packed) {
+            return new Position(Coordinates.x(packed), Coordinates.y(packed));
+        }
     }
 
     static class Map extends CharGrid {
@@ -41,10 +52,16 @@ public class Day21 {
             start = find('S');
         }
 
+        // For grids mapped straight from disk with CharGrid.map(path)
+        Map(CharGrid grid) {
+            super(grid);
+            start = find('S');
+        }
+
         private Position find(char s) {
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    if (points[y][x] == s) {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (at(x, y) == s) {
                         return new Position(x, y);
                     }
                 }
@@ -53,7 +70,7 @@ public class Day21 {
         }
 
         protected boolean isAllowed(Position p) {
-            return inBounds(p) && points[p.y][p.x] == '.' || points[p.y][p.x] == 'S';
+            return inBounds(p) && (at(p.x, p.y) == '.' || at(p.x, p.y) == 'S');
         }
 
         protected boolean inBounds(Position p) {
@@ -61,19 +78,24 @@ public class Day21 {
         }
 
         int walk(int steps) {
-            var points = Set.of(start);
+            var points = new LongHashSet();
+            points.add(start.packed());
             for (int stepsTaken = 0; stepsTaken < steps; stepsTaken++) {
-                points = points.stream()
-                        .flatMap(p1 -> p1.candidates(p1).stream())
-                        .filter(this::isAllowed)
-                        .collect(Collectors.toSet());
+                var next = new LongHashSet(points.size() * 2);
+                points.forEach(packed -> {
+                    var p1 = Position.unpack(packed);
+                    for (var p2 : p1.candidates(p1)) {
+                        if (isAllowed(p2)) next.add(p2.packed());
+                    }
+                });
+                points = next;
             }
             return points.size();
         }
     }
 
     int part1(List<String> data, int numSteps) {
-        var map = new Map(data);
+        var map = CharGrid.parse("Day21.parse", data, Map::new);
         return map.walk(numSteps);
     }
 
@@ -139,6 +161,10 @@ public class Day21 {
             super(data);
         }
 
+        InfiniteMap(CharGrid grid) {
+            super(grid);
+        }
+
         protected Position normalize(Position p) {
             var x = p.x % width;
             x = x < 0 ? x + width : x;
@@ -214,10 +240,15 @@ public class Day21 {
     }
 
     long part2(List<String> data, int numSteps) {
-        var map = new InfiniteMap(data);
+        var map = CharGrid.parse("Day21.parse", data, InfiniteMap::new);
         return map.walkQuadratic(numSteps);
     }
 
+    public static Puzzle puzzle() {
+        var day21 = new Day21();
+        return Puzzle.of(21, data -> day21.part1(data, 64), data -> day21.part2(data, 26501365));
+    }
+
     public static void main(String[] args) {
         var day21 = new Day21();
         var data = IO.getResourceAsList("day21.txt");
@@ -1,7 +1,13 @@
 package aoc2023.day22;
 
+import aoc2023.runner.Puzzle;
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
+import aoc2023.utils.Coordinates;
 import aoc2023.utils.IO;
-import com.google.common.collect.Streams;
+import aoc2023.utils.LongIntHashMap;
+import aoc2023.utils.MappedLines;
+import aoc2023.utils.NumberScanner;
 
 import java.util.*;
 
@@ -18,11 +24,11 @@ public class Day22 {
             }
         }
 
-        static Point3D parse(String s) {
-            var parts = s.split(",");
-            var x = Integer.parseInt(parts[0]);
-            var y = Integer.parseInt(parts[1]);
-            var z = Integer.parseInt(parts[2]);
+        static Point3D parse(NumberScanner scanner) {
+            // 1,0,1
+            var x = scanner.nextInt();
+            var y = scanner.nextInt();
+            var z = scanner.nextInt();
             return new Point3D(x, y, z);
         }
 
@@ -40,10 +46,11 @@ public class Day22 {
             }
         }
 
-        static Brick parse(long id, String s) {
-            var parts = s.split("~");
-            var lfd = Point3D.parse(parts[0]);
-            var rbu = Point3D.parse(parts[1]);
+        static Brick parse(long id, CharSequence s) {
+            // 1,0,1~1,2,1
+            var scanner = new NumberScanner(s);
+            var lfd = Point3D.parse(scanner);
+            var rbu = Point3D.parse(scanner);
             return new Brick(id, lfd, rbu);
         }
 
@@ -137,13 +144,13 @@ public class Day22 {
     static class Pile {
         private final Map<Integer, List<Brick>> bottoms;
         private final Map<Integer, List<Brick>> tops;
-        private final Map<Point2D, Integer> heights;
+        private final LongIntHashMap heights;
         private int bricksAdded;
 
         public Pile() {
             bottoms = new HashMap<>();
             tops = new HashMap<>();
-            heights = new HashMap<>();
+            heights = new LongIntHashMap();
             bricksAdded = 0;
         }
 
@@ -162,7 +169,7 @@ public class Day22 {
         private void updateHeight(Base base, int newHeight) {
             for (var x = base.lf().x(); x <= base.rb().x(); x++) {
                 for (var y = base.lf().y(); y <= base.rb().y(); y++) {
-                    heights.put(new Point2D(x, y), newHeight);
+                    heights.put(Coordinates.pack(x, y), newHeight);
                 }
             }
         }
@@ -171,7 +178,7 @@ public class Day22 {
             var max = 0;
             for (var x = base.lf().x(); x <= base.rb().x(); x++) {
                 for (var y = base.lf().y(); y <= base.rb().y(); y++) {
-                    var h = heights.getOrDefault(new Point2D(x, y), 0);
+                    var h = heights.getOrDefault(Coordinates.pack(x, y), 0);
                     if (h > max) {
                         max = h;
                     }
@@ -198,28 +205,78 @@ public class Day22 {
         }
     }
 
-    int part1(List<String> data) {
-        var bricks = Streams.mapWithIndex(data.stream(), (s, id) -> Brick.parse(id, s)).sorted().toList();
+    // both corners of every brick, parsed on all cores
+    static void columns(CharSequence line, Columns.Builder row) {
+        // 1,0,1~1,2,1
+        var scanner = new NumberScanner(line);
+        for (int i = 0; i < 6; i++) {
+            row.add(scanner.nextInt());
+        }
+    }
+
+    // the bricks in falling order; a brick's id is its line number
+    static List<Brick> bricks(Columns columns) {
+        var bricks = new ArrayList<Brick>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            var lfd = new Point3D(columns.getInt(i, 0), columns.getInt(i, 1), columns.getInt(i, 2));
+            var rbu = new Point3D(columns.getInt(i, 3), columns.getInt(i, 4), columns.getInt(i, 5));
+            bricks.add(new Brick(i, lfd, rbu));
+        }
+        bricks.sort(null);
+        return bricks;
+    }
+
+    static List<Brick> bricks(List<String> data) {
+        return bricks(ChunkedParser.parse("Day22.parse", data, 6, Day22::columns));
+    }
+
+    static List<Brick> bricks(MappedLines lines) {
+        return bricks(ChunkedParser.parse("Day22.parse", lines, 6, Day22::columns));
+    }
+
+    int safeToDisintegrate(List<Brick> bricks) {
         var pile = new Pile();
         bricks.forEach(pile::add);
         var graph = pile.supportGraph();
         return pile.bricksAdded - graph.singleSupport();
     }
 
-    int part2(List<String> data) {
-        var bricks = Streams.mapWithIndex(data.stream(), (s, id) -> Brick.parse(id, s)).sorted().toList();
+    int chainReactions(List<Brick> bricks) {
         var pile = new Pile();
         bricks.forEach(pile::add);
         var graph = pile.supportGraph();
         return graph.totalSupports();
     }
 
+    int part1(List<String> data) {
+        return safeToDisintegrate(bricks(data));
+    }
+
+    int part2(List<String> data) {
+        return chainReactions(bricks(data));
+    }
+
+    int part1(MappedLines lines) {
+        return safeToDisintegrate(bricks(lines));
+    }
+
+    int part2(MappedLines lines) {
+        return chainReactions(bricks(lines));
+    }
+
+    public static Puzzle puzzle() {
+        var day22 = new Day22();
+        return Puzzle.of(22, day22::part1, day22::part2);
+    }
+
     public static void main(String[] args) {
         var day22 = new Day22();
-        var data = IO.getResourceAsList("day22.txt");
-        var part1 = day22.part1(data);
-        System.out.println("part1 = " + part1);
-        var part2 = day22.part2(data);
-        System.out.println("part2 = " + part2);
+        try (var lines = IO.mapResource("day22.txt")) {
+            var bricks = bricks(lines);
+            var part1 = day22.safeToDisintegrate(bricks);
+            System.out.println("part1 = " + part1);
+            var part2 = day22.chainReactions(bricks);
+            System.out.println("part2 = " + part2);
+        }
     }
 }
@@ -1,7 +1,10 @@
 package aoc2023.day23;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.CharGrid;
+import aoc2023.utils.CsrGraph;
 import aoc2023.utils.IO;
+import aoc2023.utils.Metrics;
 
 import java.util.*;
 
@@ -16,15 +19,15 @@ public class Day23 {
         }
 
         protected List<Position> neighbours(int x, int y) {
-            assert points[y][x] != '#';
+            assert at(x, y) != '#';
             var neighbours = new ArrayList<Position>();
-            if ((points[y][x] == '.' || points[y][x] == '^') && y > 0 && points[y - 1][x] != '#')
+            if ((at(x, y) == '.' || at(x, y) == '^') && y > 0 && at(x, y - 1) != '#')
                 neighbours.add(new Position(x, y - 1));
-            if ((points[y][x] == '.' || points[y][x] == 'v') && y < height - 1 && points[y + 1][x] != '#')
+            if ((at(x, y) == '.' || at(x, y) == 'v') && y < height - 1 && at(x, y + 1) != '#')
                 neighbours.add(new Position(x, y + 1));
-            if ((points[y][x] == '.' || points[y][x] == '<') && x > 0 && points[y][x - 1] != '#')
+            if ((at(x, y) == '.' || at(x, y) == '<') && x > 0 && at(x - 1, y) != '#')
                 neighbours.add(new Position(x - 1, y));
-            if ((points[y][x] == '.' || points[y][x] == '>') && x < width - 1 && points[y][x + 1] != '#')
+            if ((at(x, y) == '.' || at(x, y) == '>') && x < width - 1 && at(x + 1, y) != '#')
                 neighbours.add(new Position(x + 1, y));
             return neighbours;
         }
@@ -73,7 +76,7 @@ public class Day23 {
             var vertices = new ArrayList<>(List.of(start, end));
             for (int y = 1; y < height - 1; y++) {
                 for (int x = 1; x < width - 1; x++) {
-                    if (points[y][x] != '#') {
+                    if (at(x, y) != '#') {
                         if (neighbours(x, y).size() > 2) {
                             vertices.add(new Position(x, y));
                         }
@@ -99,15 +102,15 @@ public class Day23 {
 
         @Override
         protected List<Position> neighbours(int x, int y) {
-            assert points[y][x] != '#';
+            assert at(x, y) != '#';
             var neighbours = new ArrayList<Position>();
-            if (y > 0 && points[y - 1][x] != '#')
+            if (y > 0 && at(x, y - 1) != '#')
                 neighbours.add(new Position(x, y - 1));
-            if (y < height - 1 && points[y + 1][x] != '#')
+            if (y < height - 1 && at(x, y + 1) != '#')
                 neighbours.add(new Position(x, y + 1));
-            if (x > 0 && points[y][x - 1] != '#')
+            if (x > 0 && at(x - 1, y) != '#')
                 neighbours.add(new Position(x - 1, y));
-            if (x < width - 1 && points[y][x + 1] != '#')
+            if (x < width - 1 && at(x + 1, y) != '#')
                 neighbours.add(new Position(x + 1, y));
             return neighbours;
         }
@@ -115,81 +118,85 @@ public class Day23 {
 
     static class Graph<V> {
 
-        private final List<V> vertices;
-        private final Map<V, List<To<V>>> neighbours;
+        private final CsrGraph<V> graph;
 
         record Edge<V>(V from, V to, int weight) {
         }
 
-        record To<V>(V vertex, int weight) {
-        }
-
         public Graph(List<V> vertices, List<Edge<V>> edges) {
-            this.vertices = vertices;
-            this.neighbours = new HashMap<>();
+            var builder = new CsrGraph.Builder<V>();
+            vertices.forEach(builder::vertex);
             for (var edge : edges) {
-                neighbours.computeIfAbsent(edge.from, k -> new ArrayList<>()).add(new To<>(edge.to, edge.weight));
+                builder.edge(edge.from, edge.to, edge.weight);
             }
+            this.graph = builder.build();
         }
 
-        public List<To<V>> neighbours(V vertex) {
-            return neighbours.get(vertex);
-        }
+        static final Metrics.Gauge stackPeak = Metrics.gauge("day23.stack.peak");
+        static final Metrics.Counter paths = Metrics.counter("day23.paths");
 
         int longestPath(V start, V end) {
 
-            record Path<V>(V vertex, Path<V> next) {
+            record Path(int vertex, Path next) {
 
-                Path(V vertex) {
+                Path(int vertex) {
                     this(vertex, null);
                 }
 
-                Path<V> extend(V vertex) {
-                    return new Path<>(vertex, this);
+                Path extend(int vertex) {
+                    return new Path(vertex, this);
                 }
 
-                boolean contains(V vertex) {
+                boolean contains(int vertex) {
                     var current = this;
                     while (current != null) {
-                        if (current.vertex.equals(vertex)) return true;
+                        if (current.vertex == vertex) return true;
                         current = current.next;
                     }
                     return false;
                 }
             }
 
-            record State<V>(V vertex, Path<V> path, int distance) {
-                State(V vertex) {
-                    this(vertex, new Path<>(vertex), 0);
+            record State(int vertex, Path path, int distance) {
+                State(int vertex) {
+                    this(vertex, new Path(vertex), 0);
                 }
             }
 
+            var target = graph.id(end);
             var maxDistance = Integer.MIN_VALUE;
 
-            var stack = new ArrayList<State<V>>();
-            stack.addLast(new State<>(start));
+            var stack = new ArrayList<State>();
+            stack.addLast(new State(graph.id(start)));
+            var peak = 1;
+            var explored = 0L;
 
             while (!stack.isEmpty()) {
 
                 var state = stack.removeLast();
 
-                if (state.vertex.equals(end)) {
+                if (state.vertex == target) {
                     maxDistance = Math.max(maxDistance, state.distance);
+                    explored++;
                     continue;
                 }
 
-                for (var next : neighbours(state.vertex)) {
-                    if (!state.path.contains(next.vertex)) {
-                        stack.add(new State<>(next.vertex, state.path.extend(next.vertex), state.distance + next.weight));
+                for (int edge = graph.start(state.vertex); edge < graph.end(state.vertex); edge++) {
+                    var next = graph.target(edge);
+                    if (!state.path.contains(next)) {
+                        stack.add(new State(next, state.path.extend(next), state.distance + graph.weight(edge)));
                     }
                 }
+                peak = Math.max(peak, stack.size());
             }
+            stackPeak.record(peak);
+            paths.add(explored);
             return maxDistance;
         }
     }
 
     int part1(List<String> data) {
-        var map = new HikingTrailsMap(data);
+        var map = CharGrid.parse("Day23.parse", data, HikingTrailsMap::new);
         var start = new Position(1, 0);
         var end = new Position(map.width() - 2, map.height() - 1);
         // The map does not give many options (in most positions the movement
@@ -200,13 +207,18 @@ public class Day23 {
     }
 
     int part2(List<String> data) {
-        var map = new HikingTrailsMap2(data);
+        var map = CharGrid.parse("Day23.parse", data, HikingTrailsMap2::new);
         var start = new Position(1, 0);
         var end = new Position(map.width() - 2, map.height() - 1);
         var graph = map.pathCompress(start, end);
         return graph.longestPath(start, end);
     }
 
+    public static Puzzle puzzle() {
+        var day23 = new Day23();
+        return Puzzle.of(23, day23::part1, day23::part2);
+    }
+
     public static void main(String[] args) {
         var day23 = new Day23();
         var data = IO.getResourceAsList("day23.txt");
@@ -214,5 +226,6 @@ public class Day23 {
         System.out.println("part1 = " + part1);
         var part2 = day23.part2(data);
         System.out.println("part2 = " + part2);
+        Metrics.dump("day23.", System.out);
     }
 }
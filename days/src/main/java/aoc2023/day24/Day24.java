@@ -1,8 +1,14 @@
 package aoc2023.day24;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.BigRational;
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
 import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
+import aoc2023.utils.NumberScanner;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -15,12 +21,8 @@ public class Day24 {
     }
 
     record Vector3D(long x, long y, long z) {
-        public static Vector3D parse(String s) {
-            var parts = s.split(",");
-            return new Vector3D(
-                    Long.parseLong(parts[0].trim()),
-                    Long.parseLong(parts[1].trim()),
-                    Long.parseLong(parts[2].trim()));
+        public static Vector3D parse(NumberScanner scanner) {
+            return new Vector3D(scanner.nextLong(), scanner.nextLong(), scanner.nextLong());
         }
     }
 
@@ -81,10 +83,12 @@ public class Day24 {
             this.vel = vel;
         }
 
-        public static Hailstone3D parse(String line) {
+        public static Hailstone3D parse(CharSequence line) {
             // 19, 13, 30 @ -2,  1, -2
-            var parts = line.split("@");
-            return new Hailstone3D(Vector3D.parse(parts[0].trim()), Vector3D.parse(parts[1].trim()));
+            var scanner = new NumberScanner(line);
+            var pos = Vector3D.parse(scanner);
+            var vel = Vector3D.parse(scanner);
+            return new Hailstone3D(pos, vel);
         }
 
         public Hailstone2D project(Axis axis) {
@@ -109,9 +113,39 @@ public class Day24 {
         }
     }
 
+    // position and velocity of every hailstone, parsed on all cores
+    static void columns(CharSequence line, Columns.Builder row) {
+        // 19, 13, 30 @ -2,  1, -2
+        var scanner = new NumberScanner(line);
+        for (int i = 0; i < 6; i++) {
+            row.add(scanner.nextLong());
+        }
+    }
+
+    static List<Hailstone3D> hailstones(Columns columns) {
+        var hailstones = new ArrayList<Hailstone3D>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            var pos = new Vector3D(columns.get(i, 0), columns.get(i, 1), columns.get(i, 2));
+            var vel = new Vector3D(columns.get(i, 3), columns.get(i, 4), columns.get(i, 5));
+            hailstones.add(new Hailstone3D(pos, vel));
+        }
+        return hailstones;
+    }
+
+    static List<Hailstone3D> hailstones(List<String> data) {
+        return hailstones(ChunkedParser.parse("Day24.parse", data, 6, Day24::columns));
+    }
+
+    static List<Hailstone3D> hailstones(MappedLines lines) {
+        return hailstones(ChunkedParser.parse("Day24.parse", lines, 6, Day24::columns));
+    }
+
     int part1(List<String> data, long min, long max) {
+        return crossings(hailstones(data), min, max);
+    }
+
+    int crossings(List<Hailstone3D> lines, long min, long max) {
         var bound = new Boundary(min, max);
-        var lines = data.stream().map(Hailstone3D::parse).toList();
         var crossings = 0;
         for (int i = 0; i < lines.size(); i++) {
             var line1 = lines.get(i).project(Axis.Z);
@@ -161,9 +195,12 @@ public class Day24 {
         return Optional.empty();
     }
 
-    // Thanks to https://www.reddit.com/user/Bikkel77/
     long part2(List<String> data, long range, int security) {
-        var lines = data.stream().map(Hailstone3D::parse).toList();
+        return rock(hailstones(data), range, security);
+    }
+
+    // Thanks to https://www.reddit.com/user/Bikkel77/
+    long rock(List<Hailstone3D> lines, long range, int security) {
         var rXY = possibleRock(lines, Axis.Z, range, security).orElseThrow();
         var rXZ = possibleRock(lines, Axis.Y, range, security).orElseThrow();
         assert rXY.pos.ax1().compareTo(rXZ.pos.ax1()) == 0 : "rocks are not in the same position";
@@ -172,12 +209,21 @@ public class Day24 {
         return rXY.pos.ax1().add(rXY.pos.ax2()).add(rXZ.pos.ax2()).numerator().longValue();
     }
 
+    public static Puzzle puzzle() {
+        var day24 = new Day24();
+        return Puzzle.of(24,
+                data -> day24.part1(data, 200000000000000L, 400000000000000L),
+                data -> day24.part2(data, 300L, 5));
+    }
+
     public static void main(String[] args) {
         var day24 = new Day24();
-        var data = IO.getResourceAsList("day24.txt");
-        var part1 = day24.part1(data, 200000000000000L, 400000000000000L);
-        System.out.println("part1 = " + part1);
-        var part2 = day24.part2(data, 300L, 5);
-        System.out.println("part2 = " + part2);
+        try (var lines = IO.mapResource("day24.txt")) {
+            var hailstones = hailstones(lines);
+            var part1 = day24.crossings(hailstones, 200000000000000L, 400000000000000L);
+            System.out.println("part1 = " + part1);
+            var part2 = day24.rock(hailstones, 300L, 5);
+            System.out.println("part2 = " + part2);
+        }
     }
 }
@@ -1,6 +1,9 @@
 package aoc2023.day25;
 
+import aoc2023.runner.Puzzle;
+import aoc2023.utils.CsrGraph;
 import aoc2023.utils.IO;
+import aoc2023.utils.Metrics;
 import aoc2023.utils.UnionFind;
 
 import java.util.*;
@@ -10,29 +13,20 @@ public class Day25 {
 
     public static class Graph {
 
-        public record Edge(int src, int dst) {
-        }
-
-        private final Map<String, Integer> ids;
-        private final ArrayList<Edge> edges;
-
-        public Graph() {
-            ids = new HashMap<>();
-            edges = new ArrayList<>();
-        }
+        private final CsrGraph.Builder<String> builder = new CsrGraph.Builder<>();
+        private CsrGraph<String> wires;
 
         public int numVertices() {
-            return ids.size();
+            return wires().size();
         }
 
         public int numEdges() {
-            return edges.size();
+            return wires().edges();
         }
 
         public void addEdge(String from, String to) {
-            ids.putIfAbsent(from, ids.size());
-            ids.putIfAbsent(to, ids.size());
-            edges.add(new Edge(ids.get(from), ids.get(to)));
+            builder.edge(from, to);
+            wires = null;
         }
 
         public void update(String line) {
@@ -43,6 +37,14 @@ public class Day25 {
                 addEdge(from, to.trim());
             }
         }
+
+        // every wire once, in the direction it was listed
+        CsrGraph<String> wires() {
+            if (wires == null) {
+                wires = builder.build();
+            }
+            return wires;
+        }
     }
 
     public record Cut(long mincut, long part1) {
@@ -50,30 +52,34 @@ public class Day25 {
 
     public static Cut kargerMinCut(Graph graph) {
         Random random = new Random();
-        int vertices = graph.numVertices();
+        var wires = graph.wires();
+        int vertices = wires.size();
         UnionFind subsets = new UnionFind(vertices);
 
         while (vertices > 2) {
-            var edge = graph.edges.get(random.nextInt(graph.numEdges()));
-            int subset1 = subsets.find(edge.src);
-            int subset2 = subsets.find(edge.dst);
+            var edge = random.nextInt(wires.edges());
+            int subset1 = subsets.find(wires.source(edge));
+            int subset2 = subsets.find(wires.target(edge));
             if (subset1 != subset2) {
                 subsets.union(subset1, subset2);
                 vertices--;
             }
         }
 
-        long cutedges =
-                graph.edges.stream()
-                        .filter(edge -> subsets.find(edge.src) != subsets.find(edge.dst))
-                        .count();
+        long cutedges = 0;
+        for (int vertex = 0; vertex < wires.size(); vertex++) {
+            for (int edge = wires.start(vertex); edge < wires.end(vertex); edge++) {
+                if (subsets.find(vertex) != subsets.find(wires.target(edge)))
+                    cutedges++;
+            }
+        }
 
         long count0 =
-                IntStream.range(0, graph.numVertices())
+                IntStream.range(0, wires.size())
                         .filter(vertice -> subsets.find(vertice) == subsets.find(0))
                         .count();
 
-        return new Cut(cutedges, count0 * (graph.ids.size() - count0));
+        return new Cut(cutedges, count0 * (wires.size() - count0));
     }
 
     // The idea will be to use different runs of Karger's algorithm
@@ -81,20 +87,29 @@ public class Day25 {
     // guarantees exists).  Then we can use the fact that the
     // mincut is unique to find the product of the partition sizes
 
+    static final Metrics.Counter trials = Metrics.counter("day25.karger.trials");
+
     long part1(List<String> data) {
         var graph = new Graph();
         data.forEach(graph::update);
         Cut cut;
         do {
             cut = kargerMinCut(graph);
+            trials.increment();
         } while (cut.mincut() != 3L);
         return cut.part1();
     }
 
+    public static Puzzle puzzle() {
+        var day25 = new Day25();
+        return Puzzle.of(25, day25::part1);
+    }
+
     public static void main(String[] args) {
         var day25 = new Day25();
         var data = IO.getResourceAsList("day25.txt");
         var part1 = day25.part1(data);
         System.out.println("part1 = " + part1);
+        Metrics.dump("day25.", System.out);
     }
 }
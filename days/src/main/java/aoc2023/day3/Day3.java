@@ -1,10 +1,15 @@
 package aoc2023.day3;
 
+import aoc2023.runner.Puzzle;
+import aoc2023.utils.CharGrid;
 import aoc2023.utils.IO;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class Day3 {
 
@@ -26,137 +31,319 @@ public class Day3 {
         }
     }
 
-    static class Schematic extends aoc2023.utils.CharGrid {
+    static class Schematic extends CharGrid {
 
         Schematic(List<String> data) {
             super(data);
         }
 
-        List<PartNumber> partNumbersInLine(int y) {
-            List<PartNumber> partNumbers = new ArrayList<>();
-            StringBuilder currentPart = new StringBuilder();
-            int start = -1;
-
-            for (int x = 1; x < width + 1; x++) {
-                char currentChar = points[y][x];
+        // Every digit cell is labelled with the id of its number, 0 elsewhere, and values
+        // maps the ids back to the numbers. Ids go in reading order. Built in one pass on the
+        // first query, then every lookup is a look at the labels around a cell.
+        private int[] labels;
+        private int[] values;
+        // by id: a symbol is around the number
+        private boolean[] parts;
+        private int numbers;
 
-                if (Character.isDigit(currentChar)) {
-                    currentPart.append(currentChar);
-                    if (start == -1) {
-                        start = x;
-                    }
-                } else {
-                    if (!currentPart.isEmpty()) {
-                        partNumbers.add(new PartNumber(Integer.parseInt(currentPart.toString()), y, start, x - 1));
-                        currentPart = new StringBuilder();
-                        start = -1;
+        private void labelNumbers() {
+            if (labels != null) return;
+            labels = new int[stride * (height + 2)];
+            values = new int[64];
+            for (int y = 1; y <= height; y++) {
+                for (int x = 1; x <= width; x++) {
+                    var cell = index(x, y);
+                    if (!Character.isDigit(at(cell))) continue;
+                    if (!Character.isDigit(at(cell - 1)) && ++numbers == values.length) {
+                        values = Arrays.copyOf(values, numbers * 2);
                     }
+                    labels[cell] = numbers;
+                    values[numbers] = values[numbers] * 10 + at(cell) - '0';
                 }
             }
-
-            if (!currentPart.isEmpty()) {
-                partNumbers.add(new PartNumber(Integer.parseInt(currentPart.toString()), y, start, width - 1));
+            parts = new boolean[numbers + 1];
+            for (int y = 1; y <= height; y++) {
+                for (int x = 1; x <= width; x++) {
+                    if (isSymbol(at(x, y))) {
+                        for (int dy = -1; dy <= 1; dy++) {
+                            for (int dx = -1; dx <= 1; dx++) {
+                                parts[labels[index(x + dx, y + dy)]] = true;
+                            }
+                        }
+                    }
+                }
             }
-
-            return partNumbers;
+            parts[0] = false;
         }
 
-        boolean surroundedBySymbol(PartNumber partNumber) {
+        // The id of the number written over a cell, 0 if none
+        int label(int x, int y) {
+            labelNumbers();
+            return labels[index(x, y)];
+        }
 
-            int row = partNumber.row();
-            int start = partNumber.colStart();
-            int end = partNumber.colEnd();
+        int value(int id) {
+            labelNumbers();
+            return values[id];
+        }
 
-            // check the characters above
-            for (int x = start; x <= end; x++) {
-                if (isSymbol(points[row - 1][x])) {
-                    return true;
-                }
-            }
+        boolean isPart(int id) {
+            labelNumbers();
+            return parts[id];
+        }
 
-            // check the characters below
-            for (int x = start; x <= end; x++) {
-                if (isSymbol(points[row + 1][x])) {
-                    return true;
+        // Writes the ids of the distinct numbers around a position (at most six) to ids and
+        // returns how many there are
+        int numbersAround(Position position, int[] ids) {
+            labelNumbers();
+            int count = 0;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    var id = labels[index(position.x() + dx, position.y() + dy)];
+                    if (id != 0 && !contains(ids, count, id)) {
+                        ids[count++] = id;
+                    }
                 }
             }
+            return count;
+        }
 
-            // check the characters to the left
-            for (int y = row - 1; y <= row + 1; y++) {
-                if (isSymbol(points[y][start - 1])) {
-                    return true;
-                }
+        private static boolean contains(int[] ids, int count, int id) {
+            for (int i = 0; i < count; i++) {
+                if (ids[i] == id) return true;
             }
+            return false;
+        }
 
-            // check the characters to the right
-            for (int y = row - 1; y <= row + 1; y++) {
-                if (isSymbol(points[y][end + 1])) {
-                    return true;
-                }
+        List<PartNumber> partNumbersInLine(int y) {
+            labelNumbers();
+            List<PartNumber> partNumbers = new ArrayList<>();
+            for (int x = 1; x <= width; x++) {
+                var id = labels[index(x, y)];
+                if (id == 0) continue;
+                int start = x;
+                while (x < width && labels[index(x + 1, y)] == id) x++;
+                partNumbers.add(new PartNumber(values[id], y, start, x));
             }
+            return partNumbers;
+        }
 
-            return false;
+        boolean surroundedBySymbol(PartNumber partNumber) {
+            return isPart(label(partNumber.colStart(), partNumber.row()));
         }
 
         List<Integer> allSurroundedBySymbols() {
-            return IntStream.rangeClosed(1, height)
-                    .mapToObj(this::partNumbersInLine)
-                    .flatMap(List::stream)
-                    .filter(this::surroundedBySymbol)
-                    .map(PartNumber::number)
+            labelNumbers();
+            return IntStream.rangeClosed(1, numbers)
+                    .filter(id -> parts[id])
+                    .mapToObj(id -> values[id])
                     .toList();
         }
 
         int sumPartNumbers() {
-            return IntStream.rangeClosed(1, height)
-                    .mapToObj(this::partNumbersInLine)
-                    .flatMap(List::stream)
-                    .filter(this::surroundedBySymbol)
-                    .mapToInt(PartNumber::number)
-                    .sum();
+            labelNumbers();
+            int sum = 0;
+            for (int id = 1; id <= numbers; id++) {
+                if (parts[id]) sum += values[id];
+            }
+            return sum;
         }
 
         List<Position> gearPositions() {
             return IntStream.rangeClosed(1, height).boxed()
                     .flatMap(y -> IntStream.rangeClosed(1, width)
-                            .filter(x -> isGear(points[y][x]))
+                            .filter(x -> isGear(at(x, y)))
                             .mapToObj(x -> new Position(x, y))).toList();
         }
 
         int gearFactor(Position gear) {
-            assert isGear(points[gear.y()][gear.x()]);
-            var y = gear.y();
-            var candidates = IntStream.rangeClosed(y - 1, y + 1)
-                    .boxed()
-                    .flatMap(row -> partNumbersInLine(row).stream())
-                    .filter(p -> p.touches(gear))
-                    .toList();
-            if (candidates.size() != 2) {
+            assert isGear(at(gear.x(), gear.y()));
+            var ids = new int[6];
+            if (numbersAround(gear, ids) != 2) {
                 return 0;
             }
-            return candidates.get(0).number() * candidates.get(1).number();
+            return value(ids[0]) * value(ids[1]);
+        }
+
+        int sumGearRatios() {
+            return gearPositions().stream()
+                    .mapToInt(this::gearFactor)
+                    .sum();
+        }
+    }
+
+    // Scans a schematic one row at a time keeping only three of them, so memory is O(width)
+    // whatever the height. A row is settled when the row below it arrives: its numbers are
+    // part numbers when a symbol is around them, and its gears see every number they touch.
+    // Each row is tokenised once, when it comes in: every digit cell knows its number.
+    static final class Window implements Consumer<CharSequence> {
+        private int width = -1;
+        // the rows above, being settled and below, padded with a '.' column on both sides
+        private byte[][] rows;
+        // for each cell of these rows, the value of the number written over it, -1 if none
+        private int[][] numbers;
+        private int seen;
+        private int partNumbers;
+        private int gearRatios;
+
+        @Override
+        public void accept(CharSequence line) {
+            if (width < 0) {
+                width = line.length();
+                rows = new byte[3][width + 2];
+                numbers = new int[3][width + 2];
+                for (int i = 0; i < 3; i++) clear(i);
+            } else if (line.length() != width) {
+                throw new IllegalArgumentException("Row " + (seen + 1) + " is " + line.length() + " wide, expected " + width);
+            }
+            roll();
+            var row = rows[2];
+            for (int x = 0; x < width; x++) {
+                row[x + 1] = (byte) line.charAt(x);
+            }
+            label(row, numbers[2]);
+            seen++;
+            if (seen > 1) settle();
+        }
+
+        // Settles the last row, once every row went by
+        Window end() {
+            if (seen > 0) {
+                roll();
+                clear(2);
+                settle();
+                seen = 0;
+            }
+            return this;
+        }
+
+        int partNumbers() {
+            return partNumbers;
+        }
+
+        int gearRatios() {
+            return gearRatios;
+        }
+
+        private void roll() {
+            var row = rows[0];
+            rows[0] = rows[1];
+            rows[1] = rows[2];
+            rows[2] = row;
+            var labels = numbers[0];
+            numbers[0] = numbers[1];
+            numbers[1] = numbers[2];
+            numbers[2] = labels;
+        }
+
+        private void clear(int i) {
+            Arrays.fill(rows[i], (byte) '.');
+            Arrays.fill(numbers[i], -1);
+        }
+
+        private static void label(byte[] row, int[] labels) {
+            Arrays.fill(labels, -1);
+            for (int x = 1; x < row.length - 1; ) {
+                if (!isDigit(row[x])) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                int value = 0;
+                while (isDigit(row[x])) {
+                    value = value * 10 + row[x++] - '0';
+                }
+                Arrays.fill(labels, start, x, value);
+            }
+        }
+
+        private static boolean isDigit(byte c) {
+            return c >= '0' && c <= '9';
         }
 
+        private void settle() {
+            var row = rows[1];
+            var labels = numbers[1];
+            for (int x = 1; x <= width; x++) {
+                if (isDigit(row[x]) && !isDigit(row[x - 1])) {
+                    int end = x;
+                    while (isDigit(row[end + 1])) end++;
+                    if (symbolAround(x - 1, end + 1)) partNumbers += labels[x];
+                } else if (isGear((char) row[x])) {
+                    gearRatios += gearRatio(x);
+                }
+            }
+        }
+
+        private boolean symbolAround(int from, int to) {
+            for (var row : rows) {
+                for (int x = from; x <= to; x++) {
+                    if (isSymbol((char) row[x])) return true;
+                }
+            }
+            return false;
+        }
+
+        // The numbers around a gear: in each row a new one starts at x - 1, or at any digit
+        // that follows a non-digit
+        private int gearRatio(int x) {
+            int count = 0;
+            int ratio = 1;
+            for (int i = 0; i < 3; i++) {
+                var row = rows[i];
+                for (int c = x - 1; c <= x + 1; c++) {
+                    if (isDigit(row[c]) && (c == x - 1 || !isDigit(row[c - 1]))) {
+                        if (++count > 2) return 0;
+                        ratio *= numbers[i][c];
+                    }
+                }
+            }
+            return count == 2 ? ratio : 0;
+        }
+    }
+
+    static Window scan(Stream<? extends CharSequence> lines) {
+        var window = new Window();
+        lines.forEachOrdered(window);
+        return window.end();
+    }
+
+    int part1(Stream<? extends CharSequence> lines) {
+        return scan(lines).partNumbers();
+    }
+
+    int part2(Stream<? extends CharSequence> lines) {
+        return scan(lines).gearRatios();
     }
 
     int part1(List<String> data) {
-        var schematic = new Schematic(data);
-        return schematic.sumPartNumbers();
+        return CharGrid.parse("Day3.parse", data, Schematic::new).sumPartNumbers();
     }
 
     int part2(List<String> data) {
-        var schematic = new Schematic(data);
-        return schematic.gearPositions().stream()
-                .mapToInt(schematic::gearFactor)
-                .sum();
+        return CharGrid.parse("Day3.parse", data, Schematic::new).sumGearRatios();
     }
 
-    public static void main(String[] args) {
+    record Answers(int part1, int part2) {
+    }
+
+    // Both parts from one schematic: the numbers are labelled once and both sums read the index
+    Answers answers(List<String> data) {
+        var schematic = CharGrid.parse("Day3.parse", data, Schematic::new);
+        return new Answers(schematic.sumPartNumbers(), schematic.sumGearRatios());
+    }
+
+    public static Puzzle puzzle() {
         var day3 = new Day3();
-        var data = IO.getResourceAsList("day3.txt");
-        var part1 = day3.part1(data);
-        System.out.println("part1 = " + part1);
-        var part2 = day3.part2(data);
-        System.out.println("part2 = " + part2);
+        return Puzzle.of(3, day3::part1, day3::part2);
+    }
+
+    public static void main(String[] args) {
+        // one pass over the streamed input gives both sums
+        try (var lines = IO.streamResource("day3.txt")) {
+            var window = scan(lines);
+            System.out.println("part1 = " + window.partNumbers());
+            System.out.println("part2 = " + window.gearRatios());
+        }
     }
 }
@@ -1,39 +1,46 @@
 package aoc2023.day4;
 
+import aoc2023.runner.Incremental;
+import aoc2023.runner.Puzzle;
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
 import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
+import aoc2023.utils.NumberScanner;
 
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class Day4 {
 
-    record Card(int id, Set<Integer> winning, List<Integer> yours) {
-
-        static Card parse(String line) {
-            Pattern pattern = Pattern.compile("Card (\\s*\\d+): (.+)\\| (.+)");
-            Matcher matcher = pattern.matcher(line);
-
-            if (matcher.matches()) {
-                int id = Integer.parseInt(matcher.group(1).trim());
-                Set<Integer> winning = Arrays.stream(matcher.group(2).trim().split("\\s+"))
-                        .map(Integer::parseInt)
-                        .collect(toSet());
-                List<Integer> yours = Arrays.stream(matcher.group(3).trim().split("\\s+"))
-                        .map(Integer::parseInt)
-                        .collect(toList());
+    record Card(int id, int[] winning, int[] yours) {
 
-                return new Card(id, winning, yours);
-            } else {
+        static Card parse(CharSequence line) {
+            // Card   1: 41 48 83 86 17 | 83 86  6 31 17  9 48 53
+            var scanner = new NumberScanner(line);
+            if (!scanner.hasNext()) {
                 throw new IllegalArgumentException("Invalid card format: " + line);
             }
+            int id = scanner.nextInt();
+            scanner.nextIntsUntil(':');
+            int[] winning = scanner.nextIntsUntil('|');
+            int[] yours = scanner.remainingInts();
+            return new Card(id, winning, yours);
         }
 
         int count() {
-            return (int) yours.stream().filter(winning::contains).count();
+            int count = 0;
+            for (int number : yours) {
+                for (int candidate : winning) {
+                    if (number == candidate) {
+                        count++;
+                        break;
+                    }
+                }
+            }
+            return count;
         }
 
         int score() {
@@ -46,11 +53,38 @@ public class Day4 {
         }
     }
 
+    int part1(Stream<? extends CharSequence> lines) {
+        return lines.map(Card::parse).mapToInt(Card::score).sum();
+    }
+
+    // id and number of matches of every card, parsed on all cores
+    static void columns(CharSequence line, Columns.Builder row) {
+        var card = Card.parse(line);
+        row.add(card.id()).add(card.count());
+    }
+
+    int part1(Columns cards) {
+        var sum = 0;
+        for (var count : cards.column(1)) {
+            sum += count == 0 ? 0 : 1 << (count - 1);
+        }
+        return sum;
+    }
+
     int part1(List<String> data) {
-        return data.stream().map(Card::parse).mapToInt(Card::score).sum();
+        return part1(ChunkedParser.parse("Day4.parse", data, 2, Day4::columns));
+    }
+
+    int part1(MappedLines lines) {
+        return part1(ChunkedParser.parse("Day4.parse", lines, 2, Day4::columns));
     }
 
-    record CardCounter(Map<Integer, Integer> counters) {
+    // Copies of the cards still ahead. A card is taken out once read and its copies go to the
+    // total, so only the next count() ids of the current card are ever held.
+    static final class CardCounter {
+        private final Map<Integer, Integer> counters = new HashMap<>();
+        private int total;
+
         void addOne(int cardId) {
             addMany(cardId, 1);
         }
@@ -59,34 +93,71 @@ public class Day4 {
             counters.merge(cardId, increment, Integer::sum);
         }
 
-        int count() {
-            return counters.values().stream().mapToInt(Integer::intValue).sum();
+        int take(int cardId) {
+            var copies = counters.remove(cardId);
+            if (copies == null) return 0;
+            total += copies;
+            return copies;
         }
 
-        int get(int cardId) {
-            return counters.getOrDefault(cardId, 0);
+        // the cards taken, and the copies still pending past the last card as before
+        int count() {
+            return total + counters.values().stream().mapToInt(Integer::intValue).sum();
         }
     }
 
-    int part2(List<String> data) {
-        var cards = data.stream().map(Card::parse).toList();
-        var cardCounter = new CardCounter(new HashMap<>());
-        for (var card : cards) {
+    int part2(Stream<? extends CharSequence> lines) {
+        var cardCounter = new CardCounter();
+        lines.map(Card::parse).forEachOrdered(card -> {
             cardCounter.addOne(card.id());
-            int numCopies = cardCounter.get(card.id());
+            int numCopies = cardCounter.take(card.id());
             for (int i = 1; i <= card.count(); i++) {
                 cardCounter.addMany(card.id() + i, numCopies);
             }
+        });
+        return cardCounter.count();
+    }
+
+    int part2(Columns cards) {
+        var cardCounter = new CardCounter();
+        for (int i = 0; i < cards.size(); i++) {
+            var id = cards.getInt(i, 0);
+            cardCounter.addOne(id);
+            int numCopies = cardCounter.take(id);
+            for (int j = 1; j <= cards.get(i, 1); j++) {
+                cardCounter.addMany(id + j, numCopies);
+            }
         }
         return cardCounter.count();
     }
 
+    int part2(List<String> data) {
+        return part2(ChunkedParser.parse("Day4.parse", data, 2, Day4::columns));
+    }
+
+    int part2(MappedLines lines) {
+        return part2(ChunkedParser.parse("Day4.parse", lines, 2, Day4::columns));
+    }
+
+    public static Puzzle puzzle() {
+        var day4 = new Day4();
+        return Puzzle.of(4, day4::part1, day4::part2);
+    }
+
+    // only part 1: the copies of part 2 carry from one card to the next
+    public static Incremental incremental() {
+        return Incremental.lines(4, List.of(line -> Card.parse(line).score()));
+    }
+
     public static void main(String[] args) {
         var day4 = new Day4();
-        var data = IO.getResourceAsList("day4.txt");
-        var part1 = day4.part1(data);
-        System.out.println("part1 = " + part1);
-        var part2 = day4.part2(data);
-        System.out.println("part2 = " + part2);
+        try (var lines = IO.streamResource("day4.txt")) {
+            var part1 = day4.part1(lines);
+            System.out.println("part1 = " + part1);
+        }
+        try (var lines = IO.streamResource("day4.txt")) {
+            var part2 = day4.part2(lines);
+            System.out.println("part2 = " + part2);
+        }
     }
 }
@@ -1,6 +1,9 @@
 package aoc2023.day5;
 
+import aoc2023.runner.Puzzle;
 import aoc2023.utils.IO;
+import aoc2023.utils.NumberScanner;
+import aoc2023.utils.PhaseEvent;
 
 import java.util.*;
 import java.util.function.LongUnaryOperator;
@@ -92,10 +95,8 @@ public class Day5 {
         static Map parseMap(String name, List<String> data) {
             var ranges = data.stream()
                     .map(line -> {
-                        var parts = Arrays.stream(line.split(" "))
-                                .mapToLong(Long::parseLong)
-                                .toArray();
-                        return new Segment(parts[0], parts[1], parts[2]);
+                        var scanner = new NumberScanner(line);
+                        return new Segment(scanner.nextLong(), scanner.nextLong(), scanner.nextLong());
                     })
                     .toList();
             return new Map(name, ranges);
@@ -140,6 +141,7 @@ public class Day5 {
 
     record Day5InputPart1(Seeds seeds, Almanac almanac) {
         static Day5InputPart1 parse(List<String> data) {
+            var event = PhaseEvent.start();
             var seedsLine = data.get(0);
             var seeds = Seeds.parse(seedsLine);
 
@@ -164,6 +166,7 @@ public class Day5 {
                 maps.add(Map.parseMap(currentMapName, currentMapData));
             }
 
+            event.finish("Day5.Day5InputPart1.parse", data.size(), maps.size());
             return new Day5InputPart1(seeds, new Almanac(maps));
         }
     }
@@ -197,6 +200,7 @@ public class Day5 {
 
     record Day5InputPart2(SeedRanges seeds, Almanac almanac) {
         static Day5InputPart2 parse(List<String> data) {
+            var event = PhaseEvent.start();
             var seedsLine = data.get(0);
             var seeds = SeedRanges.parse(seedsLine);
 
@@ -221,6 +225,7 @@ public class Day5 {
                 maps.add(Map.parseMap(currentMapName, currentMapData));
             }
 
+            event.finish("Day5.Day5InputPart2.parse", data.size(), maps.size());
             return new Day5InputPart2(seeds, new Almanac(maps));
         }
     }
@@ -233,6 +238,11 @@ public class Day5 {
                 .orElseThrow();
     }
 
+    public static Puzzle puzzle() {
+        var day5 = new Day5();
+        return Puzzle.of(5, day5::part1, day5::part2);
+    }
+
     public static void main(String[] args) {
         var day5 = new Day5();
         var data = IO.getResourceAsList("day5.txt");
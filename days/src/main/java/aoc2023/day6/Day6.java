@@ -1,5 +1,7 @@
 package aoc2023.day6;
 
+import aoc2023.runner.Puzzle;
+
 import java.util.List;
 
 public class Day6 {
@@ -45,6 +47,11 @@ public class Day6 {
         return data.numRecords();
     }
 
+    public static Puzzle puzzle() {
+        var day6 = new Day6();
+        return Puzzle.embedded(6, data -> day6.part1(day6.data1), data -> day6.part2(day6.data2));
+    }
+
     public static void main(String[] args) {
         var day6 = new Day6();
         var part1 = day6.part1(day6.data1);
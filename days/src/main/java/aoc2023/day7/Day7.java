@@ -1,12 +1,18 @@
 package aoc2023.day7;
 
+import aoc2023.runner.Puzzle;
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
 import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
 import com.google.common.collect.Streams;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
@@ -14,13 +20,16 @@ import static java.util.stream.Collectors.groupingBy;
 public class Day7 {
 
     record Hand(String cards, int bid, HandType type) {
-        static Hand parse1(String line) {
-            var parts = line.split(" ");
+        static final String ORDER1 = "23456789TJQKA";
+        static final String ORDER2 = "J23456789TQKA";
+
+        static Hand parse1(CharSequence line) {
+            var parts = line.toString().split(" ");
             return new Hand(parts[0], Integer.parseInt(parts[1]), classifyWithoutJokers(parts[0]));
         }
 
-        static Hand parse2(String line) {
-            var parts = line.split(" ");
+        static Hand parse2(CharSequence line) {
+            var parts = line.toString().split(" ");
             return new Hand(parts[0], Integer.parseInt(parts[1]), classifyWithJokers(parts[0]));
         }
 
@@ -112,6 +121,16 @@ public class Day7 {
             };
         }
 
+        // The type, then every card's rank, four bits each: comparing strengths orders hands
+        // the way the comparators do
+        long strength(String cardOrder) {
+            long strength = type.ordinal();
+            for (int i = 0; i < cards.length(); i++) {
+                strength = strength << 4 | cardOrder.indexOf(cards.charAt(i));
+            }
+            return strength;
+        }
+
         private static int compareCards(String cardOrder, String cards1, String cards2) {
             int i = 0;
             while (i < cards1.length() && i < cards2.length()) {
@@ -131,7 +150,7 @@ public class Day7 {
             private final String cardOrder;
 
             public HandComparatorPart1() {
-                this("23456789TJQKA");
+                this(ORDER1);
             }
 
             protected HandComparatorPart1(String cardOrder) {
@@ -149,7 +168,7 @@ public class Day7 {
 
         static class HandComparatorPart2 extends HandComparatorPart1 {
             public HandComparatorPart2() {
-                super("J23456789TQKA");
+                super(ORDER2);
             }
         }
     }
@@ -164,9 +183,9 @@ public class Day7 {
         FIVE_OF_A_KIND
     }
 
-    long part1(List<String> data) {
-
-        var hands = data.stream()
+    long part1(Stream<? extends CharSequence> lines) {
+        // only the parsed hands are kept for sorting, not the lines
+        var hands = lines
                 .map(Hand::parse1)
                 .sorted(new Hand.HandComparatorPart1())
                 .toList();
@@ -176,9 +195,9 @@ public class Day7 {
                 .sum();
     }
 
-    long part2(List<String> data) {
+    long part2(Stream<? extends CharSequence> lines) {
 
-        var hands = data.stream()
+        var hands = lines
                 .map(Hand::parse2)
                 .sorted(new Hand.HandComparatorPart2())
                 .toList();
@@ -188,12 +207,64 @@ public class Day7 {
                 .sum();
     }
 
+    // strength and bid of every hand, parsed on all cores
+    static void columns1(CharSequence line, Columns.Builder row) {
+        var hand = Hand.parse1(line);
+        row.add(hand.strength(Hand.ORDER1)).add(hand.bid());
+    }
+
+    static void columns2(CharSequence line, Columns.Builder row) {
+        var hand = Hand.parse2(line);
+        row.add(hand.strength(Hand.ORDER2)).add(hand.bid());
+    }
+
+    static long winnings(Columns hands) {
+        // strengths take 23 bits, so a hand sorts as one long with its row in the low half;
+        // equal hands keep their input order, as with the stable sort of the comparators
+        var keys = new long[hands.size()];
+        var strengths = hands.column(0);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = strengths[i] << 32 | i;
+        }
+        Arrays.sort(keys);
+        var bids = hands.column(1);
+        long winnings = 0;
+        for (int i = 0; i < keys.length; i++) {
+            winnings += bids[(int) keys[i]] * (i + 1);
+        }
+        return winnings;
+    }
+
+    long part1(List<String> data) {
+        return winnings(ChunkedParser.parse("Day7.parse", data, 2, Day7::columns1));
+    }
+
+    long part2(List<String> data) {
+        return winnings(ChunkedParser.parse("Day7.parse", data, 2, Day7::columns2));
+    }
+
+    long part1(MappedLines lines) {
+        return winnings(ChunkedParser.parse("Day7.parse", lines, 2, Day7::columns1));
+    }
+
+    long part2(MappedLines lines) {
+        return winnings(ChunkedParser.parse("Day7.parse", lines, 2, Day7::columns2));
+    }
+
+    public static Puzzle puzzle() {
+        var day7 = new Day7();
+        return Puzzle.of(7, day7::part1, day7::part2);
+    }
+
     public static void main(String[] args) {
         var day7 = new Day7();
-        var data = IO.getResourceAsList("day7.txt");
-        var part1 = day7.part1(data);
-        System.out.println("part1 = " + part1);
-        var part2 = day7.part2(data);
-        System.out.println("part2 = " + part2);
+        try (var lines = IO.streamResource("day7.txt")) {
+            var part1 = day7.part1(lines);
+            System.out.println("part1 = " + part1);
+        }
+        try (var lines = IO.streamResource("day7.txt")) {
+            var part2 = day7.part2(lines);
+            System.out.println("part2 = " + part2);
+        }
     }
 }
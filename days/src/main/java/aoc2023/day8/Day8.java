@@ -1,13 +1,14 @@
 package aoc2023.day8;
 
+import aoc2023.runner.Puzzle;
+import aoc2023.utils.CsrGraph;
 import aoc2023.utils.IO;
+import aoc2023.utils.PhaseEvent;
 
 import java.util.List;
-import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-
-import static java.util.function.UnaryOperator.identity;
+import java.util.stream.IntStream;
 
 public class Day8 {
 
@@ -19,7 +20,8 @@ public class Day8 {
 
     static final class Tree {
 
-        private final Map<String, Node> nodes;
+        // every node has two edges: to its left child first, then to its right child
+        private final CsrGraph<String> nodes;
 
         record Node(String root, String left, String right) {
             static Node parse(String line) {
@@ -30,15 +32,20 @@ public class Day8 {
             }
         }
 
-        Tree(Map<String, Node> nodes) {
+        Tree(CsrGraph<String> nodes) {
             this.nodes = nodes;
         }
 
         static Tree parse(List<String> data) {
-            var nodes = data.stream()
-                    .map(Node::parse)
-                    .collect(Collectors.toMap(Node::root, identity()));
-            return new Tree(nodes);
+            var event = PhaseEvent.start();
+            var nodes = new CsrGraph.Builder<String>();
+            for (var line : data) {
+                var node = Node.parse(line);
+                nodes.edge(node.root(), node.left()).edge(node.root(), node.right());
+            }
+            var tree = new Tree(nodes.build());
+            event.finish("Day8.Tree.parse", data.size(), tree.nodes.size());
+            return tree;
         }
 
         SimpleWalker simpleWalker() {
@@ -46,33 +53,34 @@ public class Day8 {
         }
 
         MultipleWalker multipleWalker() {
-            var starts = nodes.keySet().stream()
+            var starts = IntStream.range(0, nodes.size())
+                    .mapToObj(nodes::name)
                     .filter(s -> s.endsWith("A"))
                     .collect(Collectors.toList());
             return new MultipleWalker(starts);
         }
 
         class SimpleWalker {
-            private String current;
-            private final Predicate<String> isFinished;
+            private int current;
+            private final boolean[] finished;
 
             SimpleWalker(String current, Predicate<String> isFinished) {
-                this.current = current;
-                this.isFinished = isFinished;
+                this.current = nodes.id(current);
+                this.finished = new boolean[nodes.size()];
+                for (int node = 0; node < finished.length; node++) {
+                    finished[node] = isFinished.test(nodes.name(node));
+                }
             }
 
-            void next(String step) {
-                var node = nodes.get(current);
-                if (step.equals("L")) {
-                    current = node.left();
-                } else {
-                    current = node.right();
-                }
+            void next(char step) {
+                var edge = nodes.start(current);
+                current = nodes.target(step == 'L' ? edge : edge + 1);
             }
 
             void walkPath(InputPath path) {
-                for (var step : path.steps().split("")) {
-                    next(step);
+                var steps = path.steps();
+                for (int i = 0; i < steps.length(); i++) {
+                    next(steps.charAt(i));
                 }
             }
 
@@ -86,7 +94,7 @@ public class Day8 {
             }
 
             boolean isFinished() {
-                return isFinished.test(current);
+                return finished[current];
             }
 
             long part1(InputPath path) {
@@ -128,6 +136,11 @@ public class Day8 {
         return tree.multipleWalker().part2(path);
     }
 
+    public static Puzzle puzzle() {
+        var day8 = new Day8();
+        return Puzzle.of(8, day8::part1, day8::part2);
+    }
+
     public static void main(String[] args) {
         var day8 = new Day8();
         var data = IO.getResourceAsList("day8.txt");
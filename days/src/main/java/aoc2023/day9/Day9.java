@@ -1,7 +1,14 @@
 package aoc2023.day9;
 
+import aoc2023.runner.Incremental;
+import aoc2023.runner.Puzzle;
+import aoc2023.utils.ChunkedParser;
+import aoc2023.utils.Columns;
 import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
+import aoc2023.utils.NumberScanner;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -11,29 +18,27 @@ public class Day9 {
     record FirstLast(int first, int last) {
     }
 
-    record Line(List<Integer> line) {
-        static Line parse(String line) {
+    record Line(int[] line) {
+        static Line parse(CharSequence line) {
             // Line is of the form "0 3 6 9 12 15"
-            var split = line.split(" ");
-            var history = Stream.of(split).map(Integer::parseInt).toList();
+            var history = new NumberScanner(line).remainingInts();
             return new Line(history);
         }
 
-        static boolean allZero(List<Integer> line) {
-            return line.stream().allMatch(i -> i == 0);
+        static boolean allZero(int[] line) {
+            return Arrays.stream(line).allMatch(i -> i == 0);
         }
 
         List<FirstLast> extrems() {
             var differences = Stream.iterate(
                     line,
                     line -> !allZero(line),
-                    line -> IntStream.range(0, line.size() - 1)
-                            .map(i -> line.get(i + 1) - line.get(i))
-                            .boxed()
-                            .toList()
+                    line -> IntStream.range(0, line.length - 1)
+                            .map(i -> line[i + 1] - line[i])
+                            .toArray()
             );
             return differences
-                    .map(l -> new FirstLast(l.getFirst(), l.getLast()))
+                    .map(l -> new FirstLast(l[0], l[l.length - 1]))
                     .toList();
         }
 
@@ -61,20 +66,64 @@ public class Day9 {
         }
     }
 
+    int part1(Stream<? extends CharSequence> lines) {
+        return lines.map(Line::parse).mapToInt(Line::nextValue).sum();
+    }
+
+    int part2(Stream<? extends CharSequence> lines) {
+        return lines.map(Line::parse).mapToInt(Line::previousValue).sum();
+    }
+
+    // The histories are parsed and extrapolated on all cores; one row per line keeps the
+    // extrapolated value
+    static void nextValues(CharSequence line, Columns.Builder row) {
+        row.add(Line.parse(line).nextValue());
+    }
+
+    static void previousValues(CharSequence line, Columns.Builder row) {
+        row.add(Line.parse(line).previousValue());
+    }
+
+    static int sum(Columns values) {
+        return Math.toIntExact(Arrays.stream(values.column(0)).sum());
+    }
+
     int part1(List<String> data) {
-        return data.stream().map(Line::parse).mapToInt(Line::nextValue).sum();
+        return sum(ChunkedParser.parse("Day9.parse", data, 1, Day9::nextValues));
     }
 
     int part2(List<String> data) {
-        return data.stream().map(Line::parse).mapToInt(Line::previousValue).sum();
+        return sum(ChunkedParser.parse("Day9.parse", data, 1, Day9::previousValues));
+    }
+
+    int part1(MappedLines lines) {
+        return sum(ChunkedParser.parse("Day9.parse", lines, 1, Day9::nextValues));
+    }
+
+    int part2(MappedLines lines) {
+        return sum(ChunkedParser.parse("Day9.parse", lines, 1, Day9::previousValues));
+    }
+
+    public static Puzzle puzzle() {
+        var day9 = new Day9();
+        return Puzzle.of(9, day9::part1, day9::part2);
+    }
+
+    public static Incremental incremental() {
+        return Incremental.lines(9, List.of(
+                line -> Line.parse(line).nextValue(),
+                line -> Line.parse(line).previousValue()));
     }
 
     public static void main(String[] args) {
         var day9 = new Day9();
-        var data = IO.getResourceAsList("day9.txt");
-        var part1 = day9.part1(data);
-        System.out.println("part1 = " + part1);
-        var part2 = day9.part2(data);
-        System.out.println("part2 = " + part2);
+        try (var lines = IO.streamResource("day9.txt")) {
+            var part1 = day9.part1(lines);
+            System.out.println("part1 = " + part1);
+        }
+        try (var lines = IO.streamResource("day9.txt")) {
+            var part2 = day9.part2(lines);
+            System.out.println("part2 = " + part2);
+        }
     }
 }
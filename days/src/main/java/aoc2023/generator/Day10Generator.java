@@ -0,0 +1,53 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = side of the square maze
+class Day10Generator implements Generator {
+
+    static final String junk = "|-LJ7F.";
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var side = Math.max(scale, 8);
+        // at most 3 * side / 4 wide, so it fits with a margin
+        var loop = Loop.skyline(side / 4, 3, side - 3, random);
+        var grid = new char[side][side];
+        for (var row : grid)
+            for (int x = 0; x < side; x++)
+                row[x] = junk.charAt(random.nextInt(junk.length()));
+        // the loop starts at its bottom left corner, one cell away from the border
+        int x = 1, y = (int) loop.height() + 1;
+        var previous = loop.moves().getLast().direction();
+        for (var move : loop.moves()) {
+            for (long i = 0; i < move.length(); i++) {
+                var direction = move.direction();
+                grid[y][x] = pipe(previous, direction);
+                previous = direction;
+                x += direction.dx;
+                y += direction.dy;
+            }
+        }
+        grid[y][x] = 'S';
+        // S must be connected only to the two pipes of the loop
+        for (var d : Loop.Direction.values()) {
+            var nx = x + d.dx;
+            var ny = y + d.dy;
+            if (d != Loop.Direction.UP && d != Loop.Direction.RIGHT && nx >= 0 && ny < side)
+                grid[ny][nx] = '.';
+        }
+        for (var row : grid)
+            out.println(row);
+    }
+
+    // the pipe at a cell entered going `in` and left going `out`
+    private static char pipe(Loop.Direction in, Loop.Direction out) {
+        if (in == out)
+            return in.dx == 0 ? '|' : '-';
+        var north = in == Loop.Direction.DOWN || out == Loop.Direction.UP;
+        var east = in == Loop.Direction.LEFT || out == Loop.Direction.RIGHT;
+        if (north) return east ? 'L' : 'J';
+        return east ? 'F' : '7';
+    }
+}
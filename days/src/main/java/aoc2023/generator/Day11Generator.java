@@ -0,0 +1,23 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = side of the square image
+class Day11Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        // some rows and columns stay empty so that the universe has something to expand
+        var emptyColumns = new boolean[scale];
+        for (int x = 0; x < scale; x++)
+            emptyColumns[x] = random.nextInt(10) == 0;
+        var row = new char[scale];
+        for (int y = 0; y < scale; y++) {
+            var emptyRow = random.nextInt(10) == 0;
+            for (int x = 0; x < scale; x++)
+                row[x] = !emptyRow && !emptyColumns[x] && random.nextInt(40) == 0 ? '#' : '.';
+            out.println(row);
+        }
+    }
+}
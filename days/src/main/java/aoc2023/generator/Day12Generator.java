@@ -0,0 +1,39 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = rows
+class Day12Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var springs = new StringBuilder();
+        var groups = new StringBuilder();
+        for (int i = 0; i < scale; i++) {
+            springs.setLength(0);
+            groups.setLength(0);
+            // a real arrangement of the groups, then some of its springs are forgotten
+            for (int j = random.nextInt(0, 3); j > 0; j--)
+                springs.append('.');
+            var count = random.nextInt(1, 7);
+            for (int g = 0; g < count; g++) {
+                var size = random.nextInt(1, 6);
+                if (g > 0) {
+                    groups.append(',');
+                    for (int j = random.nextInt(1, 3); j > 0; j--)
+                        springs.append('.');
+                }
+                groups.append(size);
+                springs.append("#".repeat(size));
+            }
+            for (int j = random.nextInt(0, 3); j > 0; j--)
+                springs.append('.');
+            for (int j = 0; j < springs.length(); j++) {
+                if (random.nextBoolean())
+                    springs.setCharAt(j, '?');
+            }
+            out.println(springs + " " + groups);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = patterns
+class Day13Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        for (int i = 0; i < scale; i++) {
+            if (i > 0) out.println();
+            var pattern = pattern(random);
+            if (random.nextBoolean())
+                pattern = transpose(pattern);
+            for (var row : pattern)
+                out.println(row);
+        }
+    }
+
+    // A perfect vertical reflection for part1 and, for part2, a horizontal one broken by a
+    // single smudge. The smudge sits in the columns that the vertical mirror leaves out, so
+    // it does not break the first reflection.
+    private static char[][] pattern(RandomGenerator random) {
+        var width = random.nextInt(9, 18);
+        var height = random.nextInt(5, 18);
+        var mirror = random.nextInt(1, width / 2);
+        var horizontal = random.nextInt(1, height);
+        var grid = new char[height][width];
+        for (int y = 0; y < height; y++) {
+            var source = Math.min(y, 2 * horizontal - 1 - y);
+            if (source < 0) source = y;
+            for (int x = 0; x < width; x++) {
+                if (source != y) {
+                    grid[y][x] = grid[source][x];
+                } else if (x >= mirror && x < 2 * mirror) {
+                    grid[y][x] = grid[y][2 * mirror - 1 - x];
+                } else {
+                    grid[y][x] = random.nextBoolean() ? '#' : '.';
+                }
+            }
+        }
+        var smudgeY = horizontal - 1 - random.nextInt(Math.min(horizontal, height - horizontal));
+        var smudgeX = random.nextInt(2 * mirror, width);
+        grid[smudgeY][smudgeX] = grid[smudgeY][smudgeX] == '#' ? '.' : '#';
+        return grid;
+    }
+
+    private static char[][] transpose(char[][] grid) {
+        var result = new char[grid[0].length][grid.length];
+        for (int y = 0; y < grid.length; y++)
+            for (int x = 0; x < grid[0].length; x++)
+                result[x][y] = grid[y][x];
+        return result;
+    }
+}
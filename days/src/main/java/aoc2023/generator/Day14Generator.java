@@ -0,0 +1,20 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = side of the square platform
+class Day14Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var row = new char[scale];
+        for (int y = 0; y < scale; y++) {
+            for (int x = 0; x < scale; x++) {
+                var roll = random.nextInt(100);
+                row[x] = roll < 20 ? 'O' : roll < 35 ? '#' : '.';
+            }
+            out.println(row);
+        }
+    }
+}
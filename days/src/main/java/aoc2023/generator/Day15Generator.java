@@ -0,0 +1,25 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = steps of the initialization sequence, all on a single line
+class Day15Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        // a limited set of labels, so that lenses are replaced and removed
+        var labels = Math.max(1, scale / 4);
+        for (int i = 0; i < scale; i++) {
+            if (i > 0) out.print(',');
+            out.print(Names.lowercase(random.nextInt(labels)));
+            if (random.nextInt(3) == 0) {
+                out.print('-');
+            } else {
+                out.print('=');
+                out.print(random.nextInt(1, 10));
+            }
+        }
+        out.println();
+    }
+}
@@ -0,0 +1,20 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = side of the square contraption
+class Day16Generator implements Generator {
+
+    static final String devices = "/\\|-";
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var row = new char[scale];
+        for (int y = 0; y < scale; y++) {
+            for (int x = 0; x < scale; x++)
+                row[x] = random.nextInt(10) == 0 ? devices.charAt(random.nextInt(devices.length())) : '.';
+            out.println(row);
+        }
+    }
+}
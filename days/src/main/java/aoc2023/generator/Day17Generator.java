@@ -0,0 +1,18 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = side of the square city
+class Day17Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var row = new char[scale];
+        for (int y = 0; y < scale; y++) {
+            for (int x = 0; x < scale; x++)
+                row[x] = (char) ('1' + random.nextInt(9));
+            out.println(row);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = columns of the lagoon; the colours encode a second, much larger, lagoon with
+// the same number of instructions
+class Day18Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        // every encoded length, the closing left move included, must fit in five hex digits
+        var columns = Math.clamp(scale, 1, 0xFFFFF);
+        var small = Loop.skyline(columns, 10, 10 * columns, random).moves();
+        var large = Loop.skyline(columns, Math.max(1, 0xFFFFF / columns), 0xFFFFF, random).moves();
+        for (int i = 0; i < small.size(); i++) {
+            var move = small.get(i);
+            var encoded = large.get(i);
+            // the last hexadecimal digit is the direction: 0 means R, 1 D, 2 L and 3 U
+            out.printf("%c %d (#%05x%d)%n",
+                    move.direction().letter, move.length(), encoded.length(), encoded.direction().ordinal());
+        }
+    }
+}
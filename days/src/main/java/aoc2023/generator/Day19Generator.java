@@ -0,0 +1,50 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.random.RandomGenerator;
+
+// scale = workflows, and as many parts
+class Day19Generator implements Generator {
+
+    static final String categories = "xmas";
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        // The workflows form a tree rooted at "in", so every part ends accepted or rejected.
+        // Names have three letters, so they never clash with "in".
+        var pending = new ArrayDeque<String>();
+        pending.add("in");
+        var created = 1;
+        var line = new StringBuilder();
+        while (!pending.isEmpty()) {
+            var name = pending.poll();
+            line.setLength(0);
+            line.append(name).append('{');
+            var rules = random.nextInt(1, 4);
+            for (int r = 0; r <= rules; r++) {
+                String destination;
+                if (created < scale && random.nextInt(3) > 0) {
+                    destination = Names.lowercase(created++);
+                    pending.add(destination);
+                } else {
+                    destination = random.nextBoolean() ? "A" : "R";
+                }
+                if (r < rules) {
+                    line.append(categories.charAt(random.nextInt(4)))
+                            .append(random.nextBoolean() ? '<' : '>')
+                            .append(random.nextInt(1, 4000))
+                            .append(':').append(destination).append(',');
+                } else {
+                    line.append(destination);
+                }
+            }
+            out.println(line.append('}'));
+        }
+        out.println();
+        for (int i = 0; i < scale; i++) {
+            out.printf("{x=%d,m=%d,a=%d,s=%d}%n",
+                    random.nextInt(1, 4001), random.nextInt(1, 4001), random.nextInt(1, 4001), random.nextInt(1, 4001));
+        }
+    }
+}
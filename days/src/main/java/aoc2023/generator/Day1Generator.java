@@ -0,0 +1,39 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = lines
+class Day1Generator implements Generator {
+
+    static final String[] words = {"one", "two", "three", "four", "five", "six", "seven", "eight", "nine"};
+    // overlapping spelled digits are the classic trap of part2
+    static final String[] overlaps = {"oneight", "twone", "threeight", "fiveight", "sevenine", "eightwo", "eighthree", "nineight"};
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var line = new StringBuilder();
+        for (int i = 0; i < scale; i++) {
+            line.setLength(0);
+            var tokens = random.nextInt(2, 9);
+            var digit = random.nextInt(tokens);
+            for (int t = 0; t < tokens; t++) {
+                if (t == digit) {
+                    // part1 needs at least one digit per line
+                    line.append((char) ('1' + random.nextInt(9)));
+                    continue;
+                }
+                switch (random.nextInt(4)) {
+                    case 0 -> line.append((char) ('1' + random.nextInt(9)));
+                    case 1 -> line.append(words[random.nextInt(words.length)]);
+                    case 2 -> line.append(overlaps[random.nextInt(overlaps.length)]);
+                    default -> {
+                        for (int c = random.nextInt(1, 5); c > 0; c--)
+                            line.append((char) ('a' + random.nextInt(26)));
+                    }
+                }
+            }
+            out.println(line);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+// scale = bits of each of the four counters (at least 6); the periods are primes below 2^scale
+class Day20Generator implements Generator {
+
+    // Day20.part2 watches these four inverters, the inputs of the conjunction that feeds rx
+    static final String[] inverters = {"xl", "ln", "xp", "gp"};
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var bits = Math.clamp(scale, 6, 30);
+        var periods = primes(1 << (bits - 1), 1 << bits, random);
+        var starts = new ArrayList<String>();
+        for (int c = 0; c < inverters.length; c++) {
+            // A binary counter of flip-flops. The hub conjunction listens to the bits that are
+            // set in the period, so it sends a low pulse when the count reaches it; it then
+            // sets the remaining bits (and the first one) to wrap the counter back to zero.
+            var period = periods.get(c);
+            var prefix = Names.lowercase(c).substring(1);
+            var hub = "h" + prefix;
+            var hubOutputs = new ArrayList<String>();
+            hubOutputs.add(inverters[c]);
+            for (int b = 0; b < bits; b++) {
+                var flipFlop = "f" + prefix + b;
+                var set = (period >> b & 1) == 1;
+                var outputs = new ArrayList<String>();
+                if (b + 1 < bits) outputs.add("f" + prefix + (b + 1));
+                if (set) outputs.add(hub);
+                if (!set || b == 0) hubOutputs.add(flipFlop);
+                out.println("%" + flipFlop + " -> " + String.join(", ", outputs));
+            }
+            out.println("&" + hub + " -> " + String.join(", ", hubOutputs));
+            out.println("&" + inverters[c] + " -> df");
+            starts.add("f" + prefix + 0);
+        }
+        out.println("&df -> rx");
+        out.println("broadcaster -> " + String.join(", ", starts));
+    }
+
+    // four distinct odd primes in [from, to) with the highest bit set
+    private static List<Integer> primes(int from, int to, RandomGenerator random) {
+        var result = new ArrayList<Integer>();
+        while (result.size() < inverters.length) {
+            var candidate = random.nextInt(from, to) | 1;
+            if (!result.contains(candidate) && isPrime(candidate))
+                result.add(candidate);
+        }
+        return result;
+    }
+
+    private static boolean isPrime(int n) {
+        return n > 2 && IntStream.rangeClosed(2, (int) Math.sqrt(n)).noneMatch(d -> n % d == 0);
+    }
+}
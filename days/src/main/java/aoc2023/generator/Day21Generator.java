@@ -0,0 +1,24 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = half the side of the square garden, which is 2 * scale + 1 wide. The start is in
+// the middle, with a clear row, column and border, like the real input. Day21.part2 assumes
+// the real 131 side, which is scale 65.
+class Day21Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var side = 2 * scale + 1;
+        var row = new char[side];
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                var clear = x == 0 || y == 0 || x == side - 1 || y == side - 1 || x == scale || y == scale;
+                row[x] = !clear && random.nextInt(7) == 0 ? '#' : '.';
+            }
+            if (y == scale) row[scale] = 'S';
+            out.println(row);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = bricks
+class Day22Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        // the real input has ~1250 bricks over a 10x10 floor, keep a similar density
+        var side = Math.max(3, (int) Math.sqrt(scale / 12.0));
+        // each brick starts above the previous one, so no two bricks overlap in the snapshot
+        var z = 1;
+        for (int i = 0; i < scale; i++) {
+            var length = random.nextInt(0, 4);
+            int dx = 0, dy = 0, dz = 0;
+            switch (random.nextInt(3)) {
+                case 0 -> dx = Math.min(length, side - 1);
+                case 1 -> dy = Math.min(length, side - 1);
+                default -> dz = length;
+            }
+            var x = random.nextInt(side - dx);
+            var y = random.nextInt(side - dy);
+            out.printf("%d,%d,%d~%d,%d,%d%n", x, y, z, x + dx, y + dy, z + dz);
+            z += dz + random.nextInt(1, 3);
+        }
+    }
+}
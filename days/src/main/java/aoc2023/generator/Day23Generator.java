@@ -0,0 +1,52 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// scale = junctions per side. Corridors join neighbouring junctions of a square lattice,
+// with slopes pointing right and down next to each junction like the real input.
+class Day23Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var n = Math.max(2, scale);
+        var xs = positions(n, random);
+        var ys = positions(n, random);
+        var width = xs[n - 1] + 2;
+        var height = ys[n - 1] + 3;
+        var grid = new char[height][width];
+        for (var row : grid)
+            Arrays.fill(row, '#');
+        grid[0][1] = '.';
+        for (int y = 1; y < ys[0]; y++)
+            grid[y][1] = '.';
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                grid[ys[j]][xs[i]] = '.';
+                if (i + 1 < n) {
+                    for (int x = xs[i] + 1; x < xs[i + 1]; x++)
+                        grid[ys[j]][x] = x == xs[i] + 1 || x == xs[i + 1] - 1 ? '>' : '.';
+                }
+                if (j + 1 < n) {
+                    for (int y = ys[j] + 1; y < ys[j + 1]; y++)
+                        grid[y][xs[i]] = y == ys[j] + 1 || y == ys[j + 1] - 1 ? 'v' : '.';
+                }
+            }
+        }
+        grid[height - 2][width - 2] = '.';
+        grid[height - 1][width - 2] = '.';
+        for (var row : grid)
+            out.println(row);
+    }
+
+    // junction coordinates, the first one just inside the border; the gaps differ so the
+    // corridors have different lengths
+    private static int[] positions(int n, RandomGenerator random) {
+        var result = new int[n];
+        result[0] = 1;
+        for (int i = 1; i < n; i++)
+            result[i] = result[i - 1] + random.nextInt(4, 13);
+        return result;
+    }
+}
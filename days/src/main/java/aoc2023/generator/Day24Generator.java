@@ -0,0 +1,32 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = hailstones. A rock thrown from a random position with a small velocity (part2
+// searches velocities up to 300 per axis) hits each of them at a different time. The
+// hailstones are faster than that on every axis, so no candidate velocity of the search
+// makes a hailstone stand still relative to the rock.
+class Day24Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var rock = new long[3];
+        var rockVelocity = new long[3];
+        for (int a = 0; a < 3; a++) {
+            rock[a] = random.nextLong(200_000_000_000_000L, 400_000_000_000_000L);
+            rockVelocity[a] = random.nextLong(-250, 251);
+        }
+        var position = new long[3];
+        var velocity = new long[3];
+        for (int i = 0; i < scale; i++) {
+            var time = random.nextLong(10_000_000_000L, 300_000_000_000L);
+            for (int a = 0; a < 3; a++) {
+                velocity[a] = random.nextLong(301, 801) * (random.nextBoolean() ? 1 : -1);
+                position[a] = rock[a] + (rockVelocity[a] - velocity[a]) * time;
+            }
+            out.printf("%d, %d, %d @ %d, %d, %d%n",
+                    position[0], position[1], position[2], velocity[0], velocity[1], velocity[2]);
+        }
+    }
+}
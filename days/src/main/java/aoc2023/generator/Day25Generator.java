@@ -0,0 +1,37 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = components. Two random, well connected halves joined by exactly three wires.
+class Day25Generator implements Generator {
+
+    // every component is wired to this many earlier ones of its half, so no cut inside a
+    // half is as small as three
+    static final int degree = 5;
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var components = Math.max(2 * (degree + 1), scale);
+        var half = components / 2;
+        var line = new StringBuilder();
+        for (int i = 0; i < components; i++) {
+            var first = i < half ? 0 : half;
+            var index = i - first;
+            if (index == 0) continue;
+            line.setLength(0);
+            line.append(Names.lowercase(i)).append(':');
+            if (index <= degree) {
+                for (int j = first; j < i; j++)
+                    line.append(' ').append(Names.lowercase(j));
+            } else {
+                for (int k = 0; k < degree; k++)
+                    line.append(' ').append(Names.lowercase(first + random.nextInt(index)));
+            }
+            out.println(line);
+        }
+        for (int k = 0; k < 3; k++) {
+            out.println(Names.lowercase(random.nextInt(half)) + ": " + Names.lowercase(half + random.nextInt(components - half)));
+        }
+    }
+}
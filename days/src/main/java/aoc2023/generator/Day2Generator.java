@@ -0,0 +1,30 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = games
+class Day2Generator implements Generator {
+
+    static final String[] colours = {"red", "green", "blue"};
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var line = new StringBuilder();
+        for (int game = 1; game <= scale; game++) {
+            line.setLength(0);
+            line.append("Game ").append(game).append(": ");
+            var draws = random.nextInt(1, 7);
+            for (int d = 0; d < draws; d++) {
+                if (d > 0) line.append("; ");
+                var first = random.nextInt(3);
+                var count = random.nextInt(1, 4);
+                for (int c = 0; c < count; c++) {
+                    if (c > 0) line.append(", ");
+                    line.append(random.nextInt(1, 21)).append(' ').append(colours[(first + c) % 3]);
+                }
+            }
+            out.println(line);
+        }
+    }
+}
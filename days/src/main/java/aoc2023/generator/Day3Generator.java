@@ -0,0 +1,34 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = side of the square schematic
+class Day3Generator implements Generator {
+
+    static final String symbols = "*#+$/=%@&-";
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var row = new char[scale];
+        for (int y = 0; y < scale; y++) {
+            var x = 0;
+            while (x < scale) {
+                var roll = random.nextInt(10);
+                if (roll < 2) {
+                    // a number, always followed by a non digit so it does not merge with the next one
+                    var digits = Math.min(random.nextInt(1, 4), scale - x);
+                    row[x++] = (char) ('1' + random.nextInt(9));
+                    for (int d = 1; d < digits; d++)
+                        row[x++] = (char) ('0' + random.nextInt(10));
+                    if (x < scale) row[x++] = '.';
+                } else if (roll < 3) {
+                    row[x++] = symbols.charAt(random.nextInt(symbols.length()));
+                } else {
+                    row[x++] = '.';
+                }
+            }
+            out.println(row);
+        }
+    }
+}
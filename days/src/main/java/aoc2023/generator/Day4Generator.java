@@ -0,0 +1,40 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = cards
+class Day4Generator implements Generator {
+
+    static final int winning = 10;
+    static final int yours = 25;
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var numbers = new int[99];
+        var line = new StringBuilder();
+        for (int card = 1; card <= scale; card++) {
+            for (int i = 0; i < numbers.length; i++) numbers[i] = i + 1;
+            // the first `winning` numbers of the shuffle are the winning ones
+            for (int i = 0; i < winning + yours; i++) {
+                var j = random.nextInt(i, numbers.length);
+                var tmp = numbers[i];
+                numbers[i] = numbers[j];
+                numbers[j] = tmp;
+            }
+            // Few matches on average: with more than one match per card the copies of
+            // part2 grow exponentially with the number of cards
+            var matches = random.nextInt(10) < 7 ? 0 : random.nextInt(1, 4);
+            line.setLength(0);
+            line.append("Card ").append(String.format("%3d", card)).append(":");
+            for (int i = 0; i < winning; i++)
+                line.append(String.format("%3d", numbers[i]));
+            line.append(" |");
+            for (int i = 0; i < matches; i++)
+                line.append(String.format("%3d", numbers[i]));
+            for (int i = winning + matches; i < winning + yours; i++)
+                line.append(String.format("%3d", numbers[i]));
+            out.println(line);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// scale = segments per map
+class Day5Generator implements Generator {
+
+    static final String[] categories = {"seed", "soil", "fertilizer", "water", "light", "temperature", "humidity", "location"};
+    static final long universe = 1L << 32;
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var seeds = new StringBuilder("seeds:");
+        for (int i = 0; i < 10; i++) {
+            seeds.append(' ').append(random.nextLong(universe / 2))
+                    .append(' ').append(random.nextLong(1, universe / 16));
+        }
+        out.println(seeds);
+        for (int c = 0; c + 1 < categories.length; c++) {
+            out.println();
+            out.println(categories[c] + "-to-" + categories[c + 1] + " map:");
+            // disjoint source segments, each one moved to a random destination
+            var cuts = random.longs(scale, 0, universe).sorted().toArray();
+            var order = new int[scale];
+            Arrays.setAll(order, i -> i);
+            for (int i = scale - 1; i > 0; i--) {
+                var j = random.nextInt(i + 1);
+                var tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+            for (var i : order) {
+                var start = cuts[i];
+                var length = (i + 1 < scale ? cuts[i + 1] : universe) - start;
+                if (length == 0) continue;
+                out.println(random.nextLong(universe - length + 1) + " " + start + " " + length);
+            }
+        }
+    }
+}
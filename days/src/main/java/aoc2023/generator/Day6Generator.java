@@ -0,0 +1,24 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = races; Day6 embeds its input, this is only the puzzle's text format
+class Day6Generator implements Generator {
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var times = new StringBuilder("Time:    ");
+        var distances = new StringBuilder("Distance:");
+        for (int i = 0; i < scale; i++) {
+            long time = random.nextInt(7, 100);
+            // below the best possible distance, (time / 2)^2, so every race can be won
+            var record = random.nextLong(time * time / 4);
+            var width = Math.max(String.valueOf(time).length(), String.valueOf(record).length()) + 1;
+            times.append(String.format("%" + width + "d", time));
+            distances.append(String.format("%" + width + "d", record));
+        }
+        out.println(times);
+        out.println(distances);
+    }
+}
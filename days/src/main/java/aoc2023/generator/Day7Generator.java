@@ -0,0 +1,22 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = hands
+class Day7Generator implements Generator {
+
+    static final String cards = "AKQJT98765432";
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var hand = new char[5];
+        for (int i = 0; i < scale; i++) {
+            for (int c = 0; c < hand.length; c++)
+                hand[c] = cards.charAt(random.nextInt(cards.length()));
+            out.print(hand);
+            out.print(' ');
+            out.println(random.nextInt(1, 1001));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = length of the instructions
+class Day8Generator implements Generator {
+
+    // Each ghost walks a ring of prime * instructions nodes and reaches its Z node exactly
+    // at the end of the ring, which is the structure the LCM of part2 relies on.
+    static final int[] primes = {43, 47, 53, 59, 61, 67, 71, 73, 79};
+    static final int ghosts = 6;
+    // no A or Z so that only the start and end nodes match the ghosts' predicates
+    static final String letters = "BCDEFGHIJKLMNOPQRSTUVWXY";
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var path = new StringBuilder();
+        for (int i = 0; i < scale; i++)
+            path.append(random.nextBoolean() ? 'L' : 'R');
+        out.println(path);
+        out.println();
+        long next = 0;
+        for (int ghost = 0; ghost < ghosts; ghost++) {
+            // the first ghost is also the walker of part1, from AAA to ZZZ
+            var prefix = Names.of(ghost, letters, 2);
+            var start = ghost == 0 ? "AAA" : prefix + "A";
+            var end = ghost == 0 ? "ZZZ" : prefix + "Z";
+            var length = (long) primes[ghost] * scale;
+            var first = Names.of(next, letters, 3);
+            out.println(node(start, first));
+            for (long i = 1; i < length; i++) {
+                var name = Names.of(next++, letters, 3);
+                out.println(node(name, i + 1 < length ? Names.of(next, letters, 3) : end));
+            }
+            out.println(node(end, first));
+        }
+    }
+
+    private static String node(String name, String child) {
+        return name + " = (" + child + ", " + child + ")";
+    }
+}
@@ -0,0 +1,31 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+// scale = lines
+class Day9Generator implements Generator {
+
+    static final int values = 21;
+
+    @Override
+    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+        var coefficients = new int[6];
+        var line = new StringBuilder();
+        for (int i = 0; i < scale; i++) {
+            // the values of a small polynomial, so the differences reach zero
+            var degree = random.nextInt(coefficients.length);
+            for (int c = 0; c <= degree; c++)
+                coefficients[c] = random.nextInt(-3, 4);
+            line.setLength(0);
+            for (int x = 0; x < values; x++) {
+                long value = 0;
+                for (int c = degree; c >= 0; c--)
+                    value = value * x + coefficients[c];
+                if (x > 0) line.append(' ');
+                line.append(value);
+            }
+            out.println(line);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package aoc2023.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class Generate {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: Generate <day> <scale> [seed] [output file]");
+            System.exit(1);
+        }
+        var day = Integer.parseInt(args[0]);
+        var scale = Integer.parseInt(args[1]);
+        var seed = args.length > 2 ? Long.parseLong(args[2]) : 2023L;
+        var generator = Generators.get(day);
+        // the large scales produce gigabytes of text, so stdout gets a generous buffer
+        var writer = args.length > 3
+                ? Files.newBufferedWriter(Path.of(args[3]), StandardCharsets.US_ASCII)
+                : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), 1 << 20);
+        try (var out = new PrintWriter(writer)) {
+            generator.generate(scale, new Random(seed), out);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package aoc2023.generator;
+
+import java.io.PrintWriter;
+import java.util.random.RandomGenerator;
+
+@FunctionalInterface
+public interface Generator {
+
+    // Writes a valid puzzle input to out. The meaning of scale is up to each day
+    // (lines, hands, grid side, ...), but the output grows with it.
+    void generate(int scale, RandomGenerator random, PrintWriter out);
+}
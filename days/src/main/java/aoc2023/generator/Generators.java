@@ -0,0 +1,43 @@
+package aoc2023.generator;
+
+import aoc2023.utils.IO;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Random;
+
+public class Generators {
+
+    static final List<Generator> all = List.of(
+            new Day1Generator(), new Day2Generator(), new Day3Generator(), new Day4Generator(),
+            new Day5Generator(), new Day6Generator(), new Day7Generator(), new Day8Generator(),
+            new Day9Generator(), new Day10Generator(), new Day11Generator(), new Day12Generator(),
+            new Day13Generator(), new Day14Generator(), new Day15Generator(), new Day16Generator(),
+            new Day17Generator(), new Day18Generator(), new Day19Generator(), new Day20Generator(),
+            new Day21Generator(), new Day22Generator(), new Day23Generator(), new Day24Generator(),
+            new Day25Generator());
+
+    // a scale that every solver handles in milliseconds, for training and smoke runs
+    private static final int[] samples = {50, 50, 30, 50, 20, 4, 100, 5, 50, 20, 30, 30, 10, 20, 100, 20, 20, 20, 30, 8, 10, 100, 4, 10, 40};
+
+    public static int sampleScale(int day) {
+        get(day);
+        return samples[day - 1];
+    }
+
+    public static Generator get(int day) {
+        if (day < 1 || day > all.size())
+            throw new IllegalArgumentException("Unknown day: " + day);
+        return all.get(day - 1);
+    }
+
+    // Small scales only: the whole input is kept in memory
+    public static List<String> lines(int day, int scale, long seed) {
+        var buffer = new StringWriter();
+        try (var out = new PrintWriter(buffer)) {
+            get(day).generate(scale, new Random(seed), out);
+        }
+        return IO.splitLinesAsList(buffer.toString());
+    }
+}
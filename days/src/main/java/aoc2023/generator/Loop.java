@@ -0,0 +1,64 @@
+package aoc2023.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// A closed rectilinear polygon without self intersections: the silhouette of a row of
+// columns with random widths and heights over a flat bottom. Used by the pipe maze and
+// the dig plan. y grows downwards, the loop starts at its bottom left corner.
+record Loop(List<Move> moves) {
+
+    enum Direction {
+        RIGHT(1, 0, 'R'), DOWN(0, 1, 'D'), LEFT(-1, 0, 'L'), UP(0, -1, 'U');
+
+        final int dx;
+        final int dy;
+        final char letter;
+
+        Direction(int dx, int dy, char letter) {
+            this.dx = dx;
+            this.dy = dy;
+            this.letter = letter;
+        }
+    }
+
+    record Move(Direction direction, long length) {
+    }
+
+    static Loop skyline(int columns, long maxWidth, long maxHeight, RandomGenerator random) {
+        var moves = new ArrayList<Move>();
+        var totalWidth = 0L;
+        var height = random.nextLong(1, maxHeight + 1);
+        moves.add(new Move(Direction.UP, height));
+        for (int c = 0; c < columns; c++) {
+            if (c > 0) {
+                var next = height;
+                while (next == height)
+                    next = random.nextLong(1, maxHeight + 1);
+                moves.add(new Move(next > height ? Direction.UP : Direction.DOWN, Math.abs(next - height)));
+                height = next;
+            }
+            var width = random.nextLong(1, maxWidth + 1);
+            moves.add(new Move(Direction.RIGHT, width));
+            totalWidth += width;
+        }
+        moves.add(new Move(Direction.DOWN, height));
+        moves.add(new Move(Direction.LEFT, totalWidth));
+        return new Loop(moves);
+    }
+
+    long width() {
+        return moves.getLast().length();
+    }
+
+    long height() {
+        var y = 0L;
+        var min = 0L;
+        for (var move : moves) {
+            y += move.direction().dy * move.length();
+            min = Math.min(min, y);
+        }
+        return -min;
+    }
+}
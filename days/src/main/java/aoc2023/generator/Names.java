@@ -0,0 +1,24 @@
+package aoc2023.generator;
+
+final class Names {
+
+    private Names() {
+    }
+
+    // index written in base alphabet.length(), left padded with the first letter
+    static String of(long index, String alphabet, int minLength) {
+        var base = alphabet.length();
+        var builder = new StringBuilder();
+        do {
+            builder.append(alphabet.charAt((int) (index % base)));
+            index /= base;
+        } while (index > 0);
+        while (builder.length() < minLength)
+            builder.append(alphabet.charAt(0));
+        return builder.reverse().toString();
+    }
+
+    static String lowercase(long index) {
+        return of(index, "abcdefghijklmnopqrstuvwxyz", 3);
+    }
+}
@@ -0,0 +1,83 @@
+package aoc2023.runner;
+
+import aoc2023.utils.Metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+public class AllDays {
+
+    record Phase(String name, Measurement<?> measurement) {
+    }
+
+    record Report(int day, List<Phase> phases, Map<String, Long> metrics, Throwable failure) {
+    }
+
+    static Report run(Puzzle puzzle) {
+        var phases = new ArrayList<Phase>();
+        var prefix = "day" + puzzle.day() + ".";
+        Metrics.reset(prefix);
+        try {
+            var input = Measurement.of(puzzle::input);
+            phases.add(new Phase("input", input));
+            for (int part = 1; part <= puzzle.parts().size(); part++) {
+                var p = part;
+                phases.add(new Phase("part" + p, Measurement.of(() -> puzzle.solve(p, input.result()))));
+            }
+            return new Report(puzzle.day(), phases, Metrics.snapshot(prefix), null);
+        } catch (RuntimeException e) {
+            return new Report(puzzle.day(), phases, Metrics.snapshot(prefix), e);
+        }
+    }
+
+    static void print(Report report) {
+        for (var phase : report.phases()) {
+            var m = phase.measurement();
+            var result = phase.name().equals("input") ? "" : String.valueOf(m.result());
+            System.out.printf("day%-3d %-6s %10.2f %10.2f %12.2f  %s%n",
+                    report.day(), phase.name(),
+                    m.wallNanos() / 1e6, m.cpuNanos() / 1e6, m.allocatedBytes() / 1e6, result);
+        }
+        report.metrics().forEach((name, value) ->
+                System.out.printf("day%-3d %-6s %s = %d%n", report.day(), "metric", name, value));
+        if (report.failure() != null) {
+            System.out.printf("day%-3d failed: %s%n", report.day(), report.failure());
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException, IOException {
+        // -Daoc2023.cache=<file> answers repeated inputs from the result cache
+        var cacheFile = System.getProperty("aoc2023.cache");
+        var cache = cacheFile == null ? null : ResultCache.open(Path.of(cacheFile), 256);
+        var puzzles = cache == null ? Puzzles.all() : Puzzles.all().stream().map(cache::wrap).toList();
+        var tasks = new ArrayList<Callable<Report>>();
+        // Later days tend to be the heaviest ones, so they are handed out first
+        for (var puzzle : puzzles.reversed()) {
+            tasks.add(() -> run(puzzle));
+        }
+        var start = System.nanoTime();
+        var reports = new ArrayList<Report>();
+        try (var pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors())) {
+            for (var future : pool.invokeAll(tasks)) {
+                reports.add(future.get());
+            }
+        }
+        var wall = System.nanoTime() - start;
+        if (cache != null) cache.close();
+        reports.sort(Comparator.comparingInt(Report::day));
+        System.out.printf("%-6s %-6s %10s %10s %12s  %s%n", "day", "phase", "wall ms", "cpu ms", "alloc MB", "result");
+        reports.forEach(AllDays::print);
+        var cpu = reports.stream()
+                .flatMap(r -> r.phases().stream())
+                .mapToLong(p -> p.measurement().cpuNanos())
+                .sum();
+        System.out.printf("total: wall %.2f ms, cpu %.2f ms%n", wall / 1e6, cpu / 1e6);
+    }
+}
@@ -0,0 +1,118 @@
+package aoc2023.runner;
+
+import aoc2023.generator.Generators;
+import aoc2023.utils.Scratch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Solves many inputs of one day with a fixed number of platform threads. Every thread builds
+// its own puzzle once and keeps it, together with the solvers' Scratch buffers, for all the
+// inputs it is handed. The buffers are dropped when the batch ends.
+public class Batch {
+
+    public record Outcome(int index, Measurement<Object> measurement, Throwable failure) {
+    }
+
+    public record Report(List<Outcome> outcomes, long lines, long wallNanos) {
+
+        long cpuNanos() {
+            return outcomes.stream().mapToLong(o -> o.measurement() == null ? 0 : o.measurement().cpuNanos()).sum();
+        }
+
+        long allocatedBytes() {
+            return outcomes.stream().mapToLong(o -> o.measurement() == null ? 0 : o.measurement().allocatedBytes()).sum();
+        }
+
+        long failures() {
+            return outcomes.stream().filter(o -> o.failure() != null).count();
+        }
+
+        double inputsPerSecond() {
+            return outcomes.size() / (wallNanos / 1e9);
+        }
+
+        double linesPerSecond() {
+            return lines / (wallNanos / 1e9);
+        }
+    }
+
+    public static Report solve(Supplier<Puzzle> puzzles, int part, List<List<String>> inputs, int parallelism)
+            throws InterruptedException, ExecutionException {
+        var puzzle = ThreadLocal.withInitial(puzzles);
+        var scratch = Scratch.scope();
+        var tasks = new ArrayList<Callable<Outcome>>();
+        for (int i = 0; i < inputs.size(); i++) {
+            var index = i;
+            var data = inputs.get(i);
+            tasks.add(() -> {
+                try {
+                    return new Outcome(index, Measurement.of(() -> scratch.call(() -> puzzle.get().solve(part, data))), null);
+                } catch (RuntimeException e) {
+                    return new Outcome(index, null, e);
+                }
+            });
+        }
+        var start = System.nanoTime();
+        var outcomes = new ArrayList<Outcome>();
+        try (scratch; var pool = Executors.newFixedThreadPool(parallelism)) {
+            for (var future : pool.invokeAll(tasks)) {
+                outcomes.add(future.get());
+            }
+        }
+        var wall = System.nanoTime() - start;
+        var lines = inputs.stream().mapToLong(List::size).sum();
+        return new Report(outcomes, lines, wall);
+    }
+
+    static void print(Report report) {
+        System.out.printf("%d inputs, %d lines, %d failed%n", report.outcomes().size(), report.lines(), report.failures());
+        System.out.printf("wall %.2f ms, cpu %.2f ms, alloc %.2f MB%n",
+                report.wallNanos() / 1e6, report.cpuNanos() / 1e6, report.allocatedBytes() / 1e6);
+        System.out.printf("throughput: %.1f inputs/s, %.0f lines/s%n", report.inputsPerSecond(), report.linesPerSecond());
+        report.outcomes().stream()
+                .filter(o -> o.failure() != null)
+                .limit(5)
+                .forEach(o -> System.out.printf("input %d failed: %s%n", o.index(), o.failure()));
+    }
+
+    // Batch <day> <part> <threads> <input files or directories...>
+    // Batch <day> <part> <threads> --generate <count> <scale>
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        if (args.length < 4) {
+            System.err.println("usage: Batch <day> <part> <threads> (<files or directories>... | --generate <count> <scale>)");
+            System.exit(1);
+        }
+        var day = Integer.parseInt(args[0]);
+        var part = Integer.parseInt(args[1]);
+        var threads = Integer.parseInt(args[2]);
+        var inputs = new ArrayList<List<String>>();
+        if (args[3].equals("--generate")) {
+            var count = Integer.parseInt(args[4]);
+            var scale = Integer.parseInt(args[5]);
+            for (int seed = 0; seed < count; seed++)
+                inputs.add(Generators.lines(day, scale, seed));
+        } else {
+            for (int i = 3; i < args.length; i++) {
+                var path = Path.of(args[i]);
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> files = Files.list(path)) {
+                        for (var file : files.filter(Files::isRegularFile).sorted().toList())
+                            inputs.add(Files.readAllLines(file));
+                    }
+                } else {
+                    inputs.add(Files.readAllLines(path));
+                }
+            }
+        }
+        print(solve(() -> Puzzles.get(day), part, inputs, threads));
+    }
+}
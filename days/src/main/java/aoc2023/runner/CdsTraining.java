@@ -0,0 +1,30 @@
+package aoc2023.runner;
+
+import aoc2023.generator.Generators;
+
+import java.util.Set;
+
+// The training run for the CDS archive (see the cdsTrain task): solves every part of every
+// day on a small generated input, so the archive holds the aoc2023 classes, Guava and the JDK
+// classes that the solvers and the runners load.
+public class CdsTraining {
+
+    // brute force searches that take seconds whatever the input; their classes are loaded
+    // by the first part anyway
+    static final Set<String> skipped = Set.of("21.2", "24.2");
+
+    public static void main(String[] args) {
+        for (var puzzle : Puzzles.all()) {
+            var data = Generators.lines(puzzle.day(), Generators.sampleScale(puzzle.day()), puzzle.day());
+            for (int part = 1; part <= puzzle.parts().size(); part++) {
+                if (!skipped.contains(puzzle.day() + "." + part))
+                    puzzle.solve(part, data);
+            }
+        }
+        // the entry points of the other runners
+        Solve.class.getName();
+        AllDays.class.getName();
+        Batch.class.getName();
+        SolverDaemon.class.getName();
+    }
+}
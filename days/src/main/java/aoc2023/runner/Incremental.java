@@ -0,0 +1,44 @@
+package aoc2023.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+// The parts of a day whose answer is a sum over independent records: single lines, or
+// blocks of lines separated by a blank line. Each part maps one record to its contribution.
+public record Incremental(int day, boolean blocks, List<ToLongFunction<String>> parts) {
+
+    public static Incremental lines(int day, List<ToLongFunction<String>> parts) {
+        return new Incremental(day, false, parts);
+    }
+
+    public static Incremental blocks(int day, List<ToLongFunction<String>> parts) {
+        return new Incremental(day, true, parts);
+    }
+
+    public List<String> records(List<String> data) {
+        if (!blocks) {
+            return data;
+        }
+        var records = new ArrayList<String>();
+        var block = new StringBuilder();
+        for (var line : data) {
+            if (line.isEmpty()) {
+                if (!block.isEmpty()) records.add(block.toString());
+                block.setLength(0);
+            } else {
+                if (!block.isEmpty()) block.append('\n');
+                block.append(line);
+            }
+        }
+        if (!block.isEmpty()) records.add(block.toString());
+        return records;
+    }
+
+    public IncrementalSum sum(int part) {
+        if (part < 1 || part > parts.size()) {
+            throw new IllegalArgumentException("Day " + day + " part " + part + " is not a sum over records");
+        }
+        return new IncrementalSum(parts.get(part - 1));
+    }
+}
@@ -0,0 +1,59 @@
+package aoc2023.runner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+// The sum of independent per-record contributions (a line, or a block of lines), kept up to
+// date as the input is edited: every contribution is cached by its record, so an update only
+// computes the records that were not in the previous input. The cache only keeps the records
+// of the latest input, however many updates go by.
+public final class IncrementalSum {
+
+    private final ToLongFunction<String> contribution;
+    private Map<String, Long> cache = new HashMap<>();
+    private long total;
+    private int computed;
+    private int reused;
+
+    public IncrementalSum(ToLongFunction<String> contribution) {
+        this.contribution = contribution;
+    }
+
+    public long update(List<String> records) {
+        var next = new HashMap<String, Long>(records.size() * 2);
+        long sum = 0;
+        computed = 0;
+        reused = 0;
+        for (var record : records) {
+            var value = next.get(record);
+            if (value == null) value = cache.get(record);
+            if (value == null) {
+                value = contribution.applyAsLong(record);
+                computed++;
+            } else {
+                reused++;
+            }
+            next.put(record, value);
+            sum += value;
+        }
+        cache = next;
+        total = sum;
+        return sum;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    // records computed by the last update
+    public int computed() {
+        return computed;
+    }
+
+    // records answered from the cache by the last update
+    public int reused() {
+        return reused;
+    }
+}
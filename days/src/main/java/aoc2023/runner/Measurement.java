@@ -0,0 +1,23 @@
+package aoc2023.runner;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+public record Measurement<T>(T result, long wallNanos, long cpuNanos, long allocatedBytes) {
+
+    private static final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Both counters are per thread, so the task must run entirely on the calling thread
+    public static <T> Measurement<T> of(Supplier<T> task) {
+        var wallStart = System.nanoTime();
+        var cpuStart = threads.getCurrentThreadCpuTime();
+        var allocatedStart = threads.getCurrentThreadAllocatedBytes();
+        var result = task.get();
+        var allocated = threads.getCurrentThreadAllocatedBytes() - allocatedStart;
+        var cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+        var wall = System.nanoTime() - wallStart;
+        return new Measurement<>(result, wall, cpu, allocated);
+    }
+}
@@ -0,0 +1,37 @@
+package aoc2023.runner;
+
+import aoc2023.utils.IO;
+import aoc2023.utils.PhaseEvent;
+
+import java.util.List;
+
+public record Puzzle(int day, String resource, List<Part> parts) {
+
+    @FunctionalInterface
+    public interface Part {
+        Object solve(List<String> data);
+    }
+
+    public static Puzzle of(int day, Part... parts) {
+        return new Puzzle(day, "day%d.txt".formatted(day), List.of(parts));
+    }
+
+    public static Puzzle embedded(int day, Part... parts) {
+        // the input is hardcoded in the day, so there is nothing to read
+        return new Puzzle(day, null, List.of(parts));
+    }
+
+    public List<String> input() {
+        var event = PhaseEvent.start();
+        var input = resource == null ? List.<String>of() : IO.getResourceAsList(resource);
+        event.finish("day" + day + ".input", 0, input.size());
+        return input;
+    }
+
+    public Object solve(int part, List<String> data) {
+        var event = PhaseEvent.start();
+        var result = parts.get(part - 1).solve(data);
+        event.finishPart("day" + day + ".part" + part, data.size(), result);
+        return result;
+    }
+}
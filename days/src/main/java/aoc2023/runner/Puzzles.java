@@ -0,0 +1,82 @@
+package aoc2023.runner;
+
+import aoc2023.day1.Day1;
+import aoc2023.day10.Day10;
+import aoc2023.day11.Day11;
+import aoc2023.day12.Day12;
+import aoc2023.day13.Day13;
+import aoc2023.day14.Day14;
+import aoc2023.day15.Day15;
+import aoc2023.day16.Day16;
+import aoc2023.day17.Day17;
+import aoc2023.day18.Day18;
+import aoc2023.day19.Day19;
+import aoc2023.day2.Day2;
+import aoc2023.day20.Day20;
+import aoc2023.day21.Day21;
+import aoc2023.day22.Day22;
+import aoc2023.day23.Day23;
+import aoc2023.day24.Day24;
+import aoc2023.day25.Day25;
+import aoc2023.day3.Day3;
+import aoc2023.day4.Day4;
+import aoc2023.day5.Day5;
+import aoc2023.day6.Day6;
+import aoc2023.day7.Day7;
+import aoc2023.day8.Day8;
+import aoc2023.day9.Day9;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+public class Puzzles {
+
+    // Built once, on first use. The solvers keep no state between inputs, so every caller
+    // shares the same puzzles.
+    private static final class Index {
+        static final List<Puzzle> ALL = List.of(
+                Day1.puzzle(), Day2.puzzle(), Day3.puzzle(), Day4.puzzle(), Day5.puzzle(),
+                Day6.puzzle(), Day7.puzzle(), Day8.puzzle(), Day9.puzzle(), Day10.puzzle(),
+                Day11.puzzle(), Day12.puzzle(), Day13.puzzle(), Day14.puzzle(), Day15.puzzle(),
+                Day16.puzzle(), Day17.puzzle(), Day18.puzzle(), Day19.puzzle(), Day20.puzzle(),
+                Day21.puzzle(), Day22.puzzle(), Day23.puzzle(), Day24.puzzle(), Day25.puzzle());
+        static final IntFunction<Puzzle> BY_DAY = lookup(ALL);
+    }
+
+    public static List<Puzzle> all() {
+        return Index.ALL;
+    }
+
+    public static Puzzle get(int day) {
+        return Index.BY_DAY.apply(day);
+    }
+
+    // Looks puzzles up by day in a map built once, e.g. over puzzles wrapped by a ResultCache
+    public static IntFunction<Puzzle> lookup(List<Puzzle> puzzles) {
+        Map<Integer, Puzzle> byDay = puzzles.stream()
+                .collect(Collectors.toUnmodifiableMap(Puzzle::day, Function.identity()));
+        return day -> {
+            var puzzle = byDay.get(day);
+            if (puzzle == null)
+                throw new IllegalArgumentException("Unknown day: " + day);
+            return puzzle;
+        };
+    }
+
+    // the days whose parts are sums over independent lines or blocks
+    public static List<Incremental> incremental() {
+        return List.of(
+                Day1.incremental(), Day2.incremental(), Day4.incremental(),
+                Day9.incremental(), Day12.incremental(), Day13.incremental());
+    }
+
+    public static Incremental incremental(int day) {
+        return incremental().stream()
+                .filter(p -> p.day() == day)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Day " + day + " is not a sum over records"));
+    }
+}
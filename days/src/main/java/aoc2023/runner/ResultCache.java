@@ -0,0 +1,187 @@
+package aoc2023.runner;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Answers of previous runs, keyed by day, part and a hash of the input lines.
+// On disk it is an append-only file of records:
+//   day (byte), part (byte), hash (2 longs), tag (byte), answer (int, long or UTF-8 string)
+// Opening the file only builds an index from keys to record offsets; answers are read back
+// on demand and kept in a small LRU. A torn record at the end (a crash while appending) is
+// cut off when the file is opened.
+public final class ResultCache implements AutoCloseable {
+
+    record Key(int day, int part, long high, long low) {
+    }
+
+    private static final byte INT = 'I';
+    private static final byte LONG = 'J';
+    private static final byte STRING = 'S';
+    private static final int HEADER = 1 + 1 + 8 + 8 + 1;
+
+    private final FileChannel channel;
+    private final Map<Key, Long> offsets = new HashMap<>();
+    private final LinkedHashMap<Key, Object> front;
+    private long size;
+
+    private ResultCache(FileChannel channel, int capacity) {
+        this.channel = channel;
+        this.front = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public static ResultCache open(Path file, int capacity) throws IOException {
+        if (file.getParent() != null)
+            Files.createDirectories(file.getParent());
+        var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        var cache = new ResultCache(channel, capacity);
+        try {
+            cache.load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return cache;
+    }
+
+    private void load() throws IOException {
+        var buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) break;
+        }
+        buffer.flip();
+        var valid = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                var key = new Key(buffer.get(), buffer.get(), buffer.getLong(), buffer.getLong());
+                decode(buffer);
+                offsets.put(key, (long) valid);
+                valid = buffer.position();
+            }
+        } catch (BufferUnderflowException e) {
+            channel.truncate(valid);
+        }
+        size = valid;
+    }
+
+    static Key key(int day, int part, List<String> data) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            for (var line : data) {
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            var hash = ByteBuffer.wrap(digest.digest());
+            return new Key(day, part, hash.getLong(), hash.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM has SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public synchronized Optional<Object> get(Key key) {
+        var cached = front.get(key);
+        if (cached != null)
+            return Optional.of(cached);
+        var offset = offsets.get(key);
+        if (offset == null)
+            return Optional.empty();
+        try {
+            var buffer = ByteBuffer.allocate(HEADER + 2 + 0xFFFF);
+            channel.read(buffer, offset);
+            buffer.flip().position(HEADER - 1);
+            var answer = decode(buffer);
+            front.put(key, answer);
+            return Optional.of(answer);
+        } catch (IOException | BufferUnderflowException e) {
+            // Handle or log the exception appropriately
+            e.printStackTrace();
+            return Optional.empty();
+        }
+    }
+
+    public synchronized void put(Key key, Object answer) {
+        var buffer = encode(key, answer);
+        try {
+            var offset = size;
+            while (buffer.hasRemaining())
+                size += channel.write(buffer, size);
+            offsets.put(key, offset);
+            front.put(key, answer);
+        } catch (IOException e) {
+            // Handle or log the exception appropriately
+            e.printStackTrace();
+        }
+    }
+
+    private static ByteBuffer encode(Key key, Object answer) {
+        var text = answer instanceof Integer || answer instanceof Long ? null : String.valueOf(answer).getBytes(StandardCharsets.UTF_8);
+        if (text != null && text.length > 0xFFFF)
+            throw new IllegalArgumentException("Answer too long to cache: " + text.length + " bytes");
+        var buffer = ByteBuffer.allocate(HEADER + 2 + (text == null ? 8 : text.length));
+        buffer.put((byte) key.day()).put((byte) key.part()).putLong(key.high()).putLong(key.low());
+        switch (answer) {
+            case Integer i -> buffer.put(INT).putInt(i);
+            case Long l -> buffer.put(LONG).putLong(l);
+            default -> buffer.put(STRING).putShort((short) text.length).put(text);
+        }
+        return buffer.flip();
+    }
+
+    // reads the tag and the answer that follows it
+    private static Object decode(ByteBuffer buffer) {
+        var tag = buffer.get();
+        return switch (tag) {
+            case INT -> buffer.getInt();
+            case LONG -> buffer.getLong();
+            case STRING -> {
+                var bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+                buffer.get(bytes);
+                yield new String(bytes, StandardCharsets.UTF_8);
+            }
+            // anything else is a torn or corrupt record, handled like a short one
+            default -> throw new BufferUnderflowException();
+        };
+    }
+
+    // The same puzzle, answering from the cache when it has already seen the input
+    public Puzzle wrap(Puzzle puzzle) {
+        var parts = new ArrayList<Puzzle.Part>();
+        for (int i = 0; i < puzzle.parts().size(); i++) {
+            var part = i + 1;
+            var solver = puzzle.parts().get(i);
+            parts.add(data -> {
+                var key = key(puzzle.day(), part, data);
+                return get(key).orElseGet(() -> {
+                    var answer = solver.solve(data);
+                    put(key, answer);
+                    return answer;
+                });
+            });
+        }
+        return new Puzzle(puzzle.day(), puzzle.resource(), List.copyOf(parts));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
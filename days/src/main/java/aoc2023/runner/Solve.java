@@ -0,0 +1,19 @@
+package aoc2023.runner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Solves one part of one day on an input file: the short-lived entry point for bulk runs
+public class Solve {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: Solve <day> <part> <input file>");
+            System.exit(1);
+        }
+        var puzzle = Puzzles.get(Integer.parseInt(args[0]));
+        var data = Files.readAllLines(Path.of(args[2]));
+        System.out.println(puzzle.solve(Integer.parseInt(args[1]), data));
+    }
+}
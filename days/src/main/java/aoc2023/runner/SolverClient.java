@@ -0,0 +1,46 @@
+package aoc2023.runner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// Sends one request to a SolverDaemon and prints the answer
+public class SolverClient {
+
+    static String solve(SocketAddress address, int day, int part, List<String> data) throws IOException {
+        var family = address instanceof UnixDomainSocketAddress ? StandardProtocolFamily.UNIX : StandardProtocolFamily.INET;
+        try (var channel = SocketChannel.open(family)) {
+            channel.connect(address);
+            var writer = new PrintWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            writer.println(day + " " + part + " " + data.size());
+            data.forEach(writer::println);
+            writer.flush();
+            var reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            return reader.readLine();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: SolverClient <unix:path|tcp:port> <day> <part> [input file, stdin by default]");
+            System.exit(1);
+        }
+        var data = args.length > 3
+                ? Files.readAllLines(Path.of(args[3]))
+                : new BufferedReader(new InputStreamReader(System.in)).lines().toList();
+        var response = solve(SolverDaemon.address(args[0]), Integer.parseInt(args[1]), Integer.parseInt(args[2]), data);
+        System.out.println(response);
+        if (response == null || !response.startsWith("ok "))
+            System.exit(2);
+    }
+}
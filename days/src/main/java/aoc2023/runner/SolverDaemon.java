@@ -0,0 +1,139 @@
+package aoc2023.runner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+// A long-running JVM that keeps every day loaded and compiled, answering solve requests on a
+// Unix-domain socket ("unix:/tmp/aoc2023.sock") or a loopback port ("tcp:7023").
+// Each connection is served on its own virtual thread; a connection may send any number of
+// requests, one after another:
+//   request:  "<day> <part> <lines>" followed by that many input lines
+//   response: "ok <answer>" or "error <message>"
+public class SolverDaemon {
+
+    // far more than any puzzle input; the count comes from the client and is checked before
+    // any line is read
+    static final int MAX_LINES = 1 << 24;
+
+    record Request(int day, int part, int lines) {
+        static Request parse(String header) {
+            var fields = header.trim().split(" +");
+            if (fields.length != 3)
+                throw new IllegalArgumentException("Expected <day> <part> <lines>: " + header);
+            var lines = Integer.parseInt(fields[2]);
+            if (lines < 0 || lines > MAX_LINES)
+                throw new IllegalArgumentException("Line count out of range: " + lines);
+            return new Request(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]), lines);
+        }
+    }
+
+    private final IntFunction<Puzzle> puzzles;
+
+    SolverDaemon(IntFunction<Puzzle> puzzles) {
+        this.puzzles = puzzles;
+    }
+
+    static SocketAddress address(String spec) {
+        if (spec.startsWith("unix:"))
+            return UnixDomainSocketAddress.of(spec.substring("unix:".length()));
+        if (spec.startsWith("tcp:"))
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(spec.substring("tcp:".length())));
+        throw new IllegalArgumentException("Unknown address: " + spec + ", expected unix:<path> or tcp:<port>");
+    }
+
+    static ServerSocketChannel bind(SocketAddress address) throws IOException {
+        if (address instanceof UnixDomainSocketAddress unix) {
+            // a socket file left behind by a previous daemon would make bind fail
+            Files.deleteIfExists(unix.getPath());
+            return ServerSocketChannel.open(StandardProtocolFamily.UNIX).bind(address);
+        }
+        return ServerSocketChannel.open().bind(address);
+    }
+
+    void serve(ServerSocketChannel server) {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (server.isOpen()) {
+                try {
+                    var client = server.accept();
+                    executor.submit(() -> handle(client));
+                } catch (IOException e) {
+                    if (server.isOpen())
+                        e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private void handle(SocketChannel client) {
+        try (client;
+             var reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(client), StandardCharsets.UTF_8));
+             var writer = new PrintWriter(Channels.newWriter(client, StandardCharsets.UTF_8))) {
+            String header;
+            while ((header = reader.readLine()) != null) {
+                Request request;
+                try {
+                    request = Request.parse(header);
+                } catch (RuntimeException e) {
+                    // the input lines that follow cannot be skipped, so the connection is dropped
+                    writer.println("error bad request: " + header);
+                    writer.flush();
+                    break;
+                }
+                writer.println(answer(request, reader));
+                writer.flush();
+            }
+        } catch (IOException e) {
+            // the client went away mid-request: nobody is left to answer, the daemon goes on
+            System.err.println("connection dropped: " + e);
+        }
+    }
+
+    private String answer(Request request, BufferedReader reader) throws IOException {
+        var data = new ArrayList<String>();
+        for (int i = 0; i < request.lines(); i++) {
+            var line = reader.readLine();
+            if (line == null)
+                return "error input ended after " + i + " of " + request.lines() + " lines";
+            data.add(line);
+        }
+        try {
+            var puzzle = puzzles.apply(request.day());
+            if (request.part() < 1 || request.part() > puzzle.parts().size())
+                return "error day " + request.day() + " has no part " + request.part();
+            return "ok " + puzzle.solve(request.part(), data);
+        } catch (RuntimeException e) {
+            return "error " + e;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        var address = address(args.length > 0 ? args[0] : "unix:" + Path.of(System.getProperty("java.io.tmpdir"), "aoc2023.sock"));
+        var cacheFile = System.getProperty("aoc2023.cache");
+        var cache = cacheFile == null ? null : ResultCache.open(Path.of(cacheFile), 1024);
+        // every day is loaded (and wrapped) once, up front; the answers warm up the JIT as they come
+        var puzzles = cache == null ? Puzzles.all() : Puzzles.all().stream().map(cache::wrap).toList();
+        var daemon = new SolverDaemon(Puzzles.lookup(puzzles));
+        try (var server = bind(address)) {
+            if (address instanceof UnixDomainSocketAddress unix)
+                unix.getPath().toFile().deleteOnExit();
+            System.out.println("listening on " + server.getLocalAddress());
+            daemon.serve(server);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package aoc2023.runner;
+
+import aoc2023.generator.Generators;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Launches Solve in fresh JVMs, with and without the CDS archive, and compares their wall
+// time. It runs on the classpath it was started with, which must be made of jars: AppCDS
+// ignores classes loaded from directories.
+//   StartupBenchmark <archive> [runs] [day]
+public class StartupBenchmark {
+
+    static long launch(List<String> command) throws IOException, InterruptedException {
+        var start = System.nanoTime();
+        var process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        if (process.waitFor() != 0)
+            throw new IllegalStateException("failed: " + String.join(" ", command));
+        return System.nanoTime() - start;
+    }
+
+    static long[] measure(List<String> command, int runs) throws IOException, InterruptedException {
+        launch(command); // the first launch pays for the page cache
+        var times = new long[runs];
+        for (int i = 0; i < runs; i++)
+            times[i] = launch(command);
+        Arrays.sort(times);
+        return times;
+    }
+
+    static void print(String name, long[] times) {
+        System.out.printf("%-12s median %8.1f ms, min %8.1f ms, max %8.1f ms%n",
+                name, times[times.length / 2] / 1e6, times[0] / 1e6, times[times.length - 1] / 1e6);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("usage: StartupBenchmark <archive> [runs] [day]");
+            System.exit(1);
+        }
+        var archive = Path.of(args[0]);
+        var runs = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        var day = args.length > 2 ? Integer.parseInt(args[2]) : 17;
+        if (!Files.exists(archive))
+            throw new IllegalArgumentException("No archive at " + archive + ", run the cdsTrain task first");
+
+        var input = Files.createTempFile("day" + day, ".txt");
+        Files.write(input, Generators.lines(day, Generators.sampleScale(day), day));
+        var java = ProcessHandle.current().info().command().orElse("java");
+        var classpath = System.getProperty("java.class.path");
+        var solve = List.of("-cp", classpath, Solve.class.getName(), String.valueOf(day), "1", input.toString());
+
+        // no sharing at all, the JDK's default archive (what a plain launch gets), and ours
+        var modes = List.of(
+                List.of("no CDS", "-Xshare:off"),
+                List.of("default CDS", "-Xshare:auto"),
+                List.of("AppCDS", "-XX:SharedArchiveFile=" + archive));
+        try {
+            System.out.printf("day %d part 1, %d runs each%n", day, runs);
+            for (var mode : modes) {
+                var command = new ArrayList<>(List.of(java, "--enable-preview", mode.get(1)));
+                command.addAll(solve);
+                print(mode.getFirst(), measure(command, runs));
+            }
+        } finally {
+            Files.delete(input);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package aoc2023.runner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+
+// Solves a part again every time its input file is saved, computing only the lines (or
+// blocks) that were not in the previous version of the file.
+//   Watch <day> <part> <file>
+public class Watch {
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 3) {
+            System.err.println("usage: Watch <day> <part> <file>");
+            System.exit(1);
+        }
+        var day = Integer.parseInt(args[0]);
+        var part = Integer.parseInt(args[1]);
+        var file = Path.of(args[2]);
+        var incremental = Puzzles.incremental(day);
+        var sum = incremental.sum(part);
+        FileTime seen = null;
+        String failure = null;
+        while (true) {
+            // a half-saved file or one briefly missing while an editor renames it over the old
+            // one: the error is shown once and the next save is solved as usual
+            try {
+                var modified = Files.getLastModifiedTime(file);
+                if (!modified.equals(seen)) {
+                    seen = modified;
+                    var start = System.nanoTime();
+                    var answer = sum.update(incremental.records(Files.readAllLines(file)));
+                    System.out.printf("%s day %d part %d = %d (%d computed, %d reused, %.2f ms)%n",
+                            LocalTime.now().truncatedTo(ChronoUnit.SECONDS), day, part, answer,
+                            sum.computed(), sum.reused(), (System.nanoTime() - start) / 1e6);
+                }
+                failure = null;
+            } catch (IOException | RuntimeException e) {
+                if (!e.toString().equals(failure)) {
+                    failure = e.toString();
+                    System.err.printf("%s day %d part %d failed: %s%n",
+                            LocalTime.now().truncatedTo(ChronoUnit.SECONDS), day, part, failure);
+                }
+            }
+            Thread.sleep(200);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package aoc2023.utils;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+
+// A view over a run of single-byte characters; nothing is copied until toString()
+public final class AsciiLine implements CharSequence {
+
+    private final MemorySegment segment;
+    private final long offset;
+    private final int length;
+
+    public AsciiLine(MemorySegment segment, long offset, int length) {
+        this.segment = segment;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) (segment.get(ValueLayout.JAVA_BYTE, offset + index) & 0xff);
+    }
+
+    public byte byteAt(int index) {
+        return segment.get(ValueLayout.JAVA_BYTE, offset + index);
+    }
+
+    @Override
+    public AsciiLine subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("[%d, %d) of %d".formatted(start, end, length));
+        }
+        return new AsciiLine(segment, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        var bytes = segment.asSlice(offset, length).toArray(ValueLayout.JAVA_BYTE);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -1,11 +1,25 @@
 package aoc2023.utils;
 
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.function.Function;
 
 public class CharGrid {
     protected int height;
     protected final int width;
-    protected final char[][] points;
+    // cells are stored row-major, one byte per cell (border included when embedded);
+    // parsed grids wrap a heap byte[], loaded and mapped grids live off-heap
+    protected final MemorySegment cells;
+    protected final int stride;
+    // index deltas to the up, right, down and left neighbours of a cell
+    protected final int[] offsets;
+    private final boolean embedded;
 
     public CharGrid(List<String> data) {
         this(data, true);
@@ -22,41 +36,181 @@ public class CharGrid {
     public CharGrid(List<String> data, boolean embed, char embedding) {
         height = data.size();
         width = data.getFirst().length();
+        embedded = embed;
         if (embed) {
-            points = new char[height + 2][width + 2];
-            fillPointsEmbed(data, embedding);
+            stride = width + 2;
+            var bytes = new byte[stride * (height + 2)];
+            fillCellsEmbed(bytes, data, embedding);
+            cells = MemorySegment.ofArray(bytes);
         } else {
-            points = new char[height][width];
-            fillPointsNotEmbed(data);
+            stride = width;
+            var bytes = new byte[stride * height];
+            fillCellsNotEmbed(bytes, data);
+            cells = MemorySegment.ofArray(bytes);
         }
+        offsets = new int[]{-stride, 1, stride, -1};
     }
 
-    private void fillPointsEmbed(List<String> data, char embedding) {
+    // Builds a grid, recorded as a PhaseEvent under the given phase name: lines in, cells out
+    public static <G extends CharGrid> G parse(String phase, List<String> data, Function<List<String>, G> grid) {
+        var event = PhaseEvent.start();
+        var result = grid.apply(data);
+        event.finish(phase, data.size(), (long) result.width * result.height);
+        return result;
+    }
+
+    // Shares the cells of another grid, so solvers can run on loaded or mapped grids
+    protected CharGrid(CharGrid grid) {
+        this(grid.cells, grid.width, grid.height, grid.stride, grid.embedded);
+    }
+
+    private CharGrid(MemorySegment cells, int width, int height, int stride, boolean embedded) {
+        this.cells = cells;
+        this.width = width;
+        this.height = height;
+        this.stride = stride;
+        this.embedded = embedded;
+        this.offsets = new int[]{-stride, 1, stride, -1};
+    }
+
+    private void fillCellsEmbed(byte[] bytes, List<String> data, char embedding) {
         for (int y = 0; y < height + 2; y++) {
             for (int x = 0; x < width + 2; x++) {
                 if (x == 0 || y == 0 || x == width + 1 || y == height + 1) {
-                    points[y][x] = embedding;
+                    bytes[y * stride + x] = (byte) embedding;
                 } else {
-                    points[y][x] = data.get(y - 1).charAt(x - 1);
+                    bytes[y * stride + x] = (byte) data.get(y - 1).charAt(x - 1);
                 }
             }
         }
     }
 
-    private void fillPointsNotEmbed(List<String> data) {
+    private void fillCellsNotEmbed(byte[] bytes, List<String> data) {
         for (int y = 0; y < height; y++) {
+            var row = data.get(y);
             for (int x = 0; x < width; x++) {
-                points[y][x] = data.get(y).charAt(x);
+                bytes[y * stride + x] = (byte) row.charAt(x);
+            }
+        }
+    }
+
+    // Maps the grid file read-only without copying it. Line terminators stay in place
+    // as an extra column, so the grid cannot be embedded and must not be written to.
+    // The file must be rectangular: only its first line and its size are checked, a ragged
+    // file of the right size would be read across its rows. map(path, true) checks every row.
+    public static CharGrid map(Path path) throws IOException {
+        return map(path, false);
+    }
+
+    public static CharGrid map(Path path, boolean checkRows) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), Arena.ofAuto());
+            var shape = Shape.of(file);
+            if (checkRows) {
+                for (int y = 0; y < shape.height; y++) {
+                    shape.checkRow(file, y);
+                }
+            }
+            return new CharGrid(file, shape.width, shape.height, shape.lineLength, false);
+        }
+    }
+
+    // Copies the grid file into an off-heap segment surrounded by the embedding border
+    public static CharGrid load(Path path, char embedding) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ);
+             var arena = Arena.ofConfined()) {
+            var file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            var shape = Shape.of(file);
+            var stride = shape.width + 2;
+            var cells = Arena.ofAuto().allocate((long) stride * (shape.height + 2));
+            cells.fill((byte) embedding);
+            for (int y = 0; y < shape.height; y++) {
+                shape.checkRow(file, y);
+                MemorySegment.copy(file, (long) y * shape.lineLength,
+                        cells, (long) (y + 1) * stride + 1, shape.width);
+            }
+            return new CharGrid(cells, shape.width, shape.height, stride, true);
+        }
+    }
+
+    private record Shape(int width, int height, int lineLength) {
+        static Shape of(MemorySegment file) {
+            var size = file.byteSize();
+            if (size == 0) {
+                throw new IllegalArgumentException("Empty grid");
+            }
+            long newline = 0;
+            while (newline < size && file.get(ValueLayout.JAVA_BYTE, newline) != '\n') {
+                newline++;
+            }
+            var width = newline > 0 && file.get(ValueLayout.JAVA_BYTE, newline - 1) == '\r' ? newline - 1 : newline;
+            var lineLength = Math.min(newline + 1, size);
+            var height = (size + lineLength - 1) / lineLength;
+            if (height * lineLength - size > lineLength - width) {
+                throw new IllegalArgumentException("Not a rectangular grid: %d bytes, lines of %d"
+                        .formatted(size, lineLength));
             }
+            return new Shape(Math.toIntExact(width), Math.toIntExact(height), Math.toIntExact(lineLength));
         }
+
+        // A row is width cells without a line break, then the terminator of the first line,
+        // which only the last row can leave out at the end of the file
+        void checkRow(MemorySegment file, int y) {
+            long start = (long) y * lineLength;
+            for (long i = start; i < start + width; i++) {
+                var c = file.get(ValueLayout.JAVA_BYTE, i);
+                if (c == '\n' || c == '\r') {
+                    throw ragged(y);
+                }
+            }
+            for (int i = width; i < lineLength && start + i < file.byteSize(); i++) {
+                if (file.get(ValueLayout.JAVA_BYTE, start + i) != file.get(ValueLayout.JAVA_BYTE, i)) {
+                    throw ragged(y);
+                }
+            }
+        }
+
+        private IllegalArgumentException ragged(int y) {
+            return new IllegalArgumentException("Not a rectangular grid: row %d is not %d wide".formatted(y, width));
+        }
+    }
+
+    protected int index(int x, int y) {
+        return y * stride + x;
+    }
+
+    protected int x(int index) {
+        return index % stride;
+    }
+
+    protected int y(int index) {
+        return index / stride;
+    }
+
+    protected char at(int index) {
+        return (char) cells.get(ValueLayout.JAVA_BYTE, index);
+    }
+
+    protected char at(int x, int y) {
+        return at(index(x, y));
+    }
+
+    protected void set(int index, char c) {
+        cells.set(ValueLayout.JAVA_BYTE, index, (byte) c);
+    }
+
+    protected void set(int x, int y, char c) {
+        set(index(x, y), c);
     }
 
     @Override
     public String toString() {
-        var sb = new StringBuilder();
-        for (char[] row : points) {
-            for (char c : row) {
-                sb.append(c);
+        var rows = embedded ? height + 2 : height;
+        var columns = embedded ? width + 2 : width;
+        var sb = new StringBuilder(rows * (columns + 1));
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                sb.append(at(x, y));
             }
             sb.append("\n");
         }
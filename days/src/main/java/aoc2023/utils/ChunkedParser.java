@@ -0,0 +1,76 @@
+package aoc2023.utils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Parses line-oriented input on all cores: the lines are cut into one chunk per core (at
+// line boundaries for a mapped input), every chunk fills its own Columns, and the chunks
+// are joined back in input order, so row i is always line i.
+// Small inputs stay in a single chunk; forking would cost more than it saves.
+public final class ChunkedParser {
+
+    @FunctionalInterface
+    public interface LineParser {
+        // Adds exactly the fields of one row; the row is ended by the caller
+        void parse(CharSequence line, Columns.Builder row);
+    }
+
+    static final long MIN_CHUNK_BYTES = 1 << 16;
+    static final int MIN_CHUNK_LINES = 1024;
+
+    private ChunkedParser() {
+    }
+
+    static int chunks(long work, long minChunk) {
+        return (int) Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), work / minChunk));
+    }
+
+    public static Columns parse(MappedLines lines, int width, LineParser parser) {
+        return parse(lines, width, parser, chunks(lines.segment().byteSize(), MIN_CHUNK_BYTES));
+    }
+
+    // The same, recorded as a PhaseEvent under the given phase name. Row i is line i, so the
+    // rows count the lines too, without indexing the mapped file just for the event.
+    public static Columns parse(String phase, MappedLines lines, int width, LineParser parser) {
+        var event = PhaseEvent.start();
+        var columns = parse(lines, width, parser);
+        event.finish(phase, columns.size(), columns.size());
+        return columns;
+    }
+
+    static Columns parse(MappedLines lines, int width, LineParser parser, int chunks) {
+        var parts = lines.split(chunks).parallelStream()
+                .map(chunk -> parseChunk(chunk.stream(), width, parser))
+                .toList();
+        return Columns.concat(width, parts);
+    }
+
+    public static Columns parse(List<? extends CharSequence> lines, int width, LineParser parser) {
+        return parse(lines, width, parser, chunks(lines.size(), MIN_CHUNK_LINES));
+    }
+
+    public static Columns parse(String phase, List<? extends CharSequence> lines, int width, LineParser parser) {
+        var event = PhaseEvent.start();
+        var columns = parse(lines, width, parser);
+        event.finish(phase, lines.size(), columns.size());
+        return columns;
+    }
+
+    static Columns parse(List<? extends CharSequence> lines, int width, LineParser parser, int chunks) {
+        var size = lines.size();
+        var parts = IntStream.range(0, chunks).parallel()
+                .mapToObj(i -> parseChunk(lines.subList(size * i / chunks, size * (i + 1) / chunks).stream(), width, parser))
+                .toList();
+        return Columns.concat(width, parts);
+    }
+
+    private static Columns parseChunk(Stream<? extends CharSequence> lines, int width, LineParser parser) {
+        var row = new Columns.Builder(width);
+        lines.forEach(line -> {
+            parser.parse(line, row);
+            row.endRow();
+        });
+        return row.build();
+    }
+}
@@ -0,0 +1,96 @@
+package aoc2023.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Fixed-width rows of numbers stored column by column, one long[] per field:
+// column(c)[row] is field c of row. Rows are added through a Builder, one field after the
+// other, and builders filled in parallel are joined back in order with concat.
+public final class Columns {
+
+    private final long[][] columns;
+    private final int size;
+
+    private Columns(long[][] columns, int size) {
+        this.columns = columns;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int width() {
+        return columns.length;
+    }
+
+    // The column itself, exactly size() long, not a copy
+    public long[] column(int c) {
+        return columns[c];
+    }
+
+    public long get(int row, int c) {
+        return columns[c][row];
+    }
+
+    public int getInt(int row, int c) {
+        return Math.toIntExact(columns[c][row]);
+    }
+
+    public static Columns concat(int width, List<Columns> parts) {
+        if (parts.size() == 1 && parts.getFirst().width() == width) {
+            // a single chunk was already trimmed by its builder
+            return parts.getFirst();
+        }
+        var size = parts.stream().mapToInt(Columns::size).sum();
+        var columns = new long[width][size];
+        var row = 0;
+        for (var part : parts) {
+            if (part.width() != width) {
+                throw new IllegalArgumentException("Width " + part.width() + " instead of " + width);
+            }
+            for (int c = 0; c < width; c++) {
+                System.arraycopy(part.columns[c], 0, columns[c], row, part.size);
+            }
+            row += part.size;
+        }
+        return new Columns(columns, size);
+    }
+
+    public static final class Builder {
+        private final long[][] columns;
+        private int size;
+        private int field;
+
+        public Builder(int width) {
+            this.columns = new long[width][256];
+        }
+
+        public Builder add(long value) {
+            if (field == columns.length) {
+                throw new IllegalStateException("Row " + size + " has more than " + columns.length + " fields");
+            }
+            if (size == columns[field].length) {
+                columns[field] = Arrays.copyOf(columns[field], size * 2);
+            }
+            columns[field++][size] = value;
+            return this;
+        }
+
+        public void endRow() {
+            if (field != columns.length) {
+                throw new IllegalStateException("Row " + size + " has " + field + " fields instead of " + columns.length);
+            }
+            field = 0;
+            size++;
+        }
+
+        public Columns build() {
+            var trimmed = new long[columns.length][];
+            for (int c = 0; c < columns.length; c++) {
+                trimmed[c] = Arrays.copyOf(columns[c], size);
+            }
+            return new Columns(trimmed, size);
+        }
+    }
+}
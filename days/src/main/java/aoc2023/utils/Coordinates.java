@@ -0,0 +1,17 @@
+package aoc2023.utils;
+
+// Packs a pair of ints into a single long, e.g. to use them as a primitive hash key
+public class Coordinates {
+
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    public static int x(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int y(long packed) {
+        return (int) packed;
+    }
+}
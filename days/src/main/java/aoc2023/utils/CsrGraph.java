@@ -0,0 +1,135 @@
+package aoc2023.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// A directed, weighted graph in compressed sparse row form. Vertices are the ids 0..size-1;
+// the edges leaving v are the indexes offsets[v] until offsets[v + 1], and edge e goes to
+// targets[e] with weights[e]. Traversals only walk three int arrays; sources[e] is kept too,
+// so an edge picked by its index knows both of its ends in O(1).
+// The builder interns vertex names (Strings, records...) to ids in first-seen order and keeps
+// the edges of every vertex in the order they were added.
+public final class CsrGraph<V> {
+
+    private final List<V> names;
+    private final Map<V, Integer> ids;
+    private final int[] offsets;
+    private final int[] sources;
+    private final int[] targets;
+    private final int[] weights;
+
+    private CsrGraph(List<V> names, Map<V, Integer> ids, int[] offsets, int[] sources, int[] targets, int[] weights) {
+        this.names = names;
+        this.ids = ids;
+        this.offsets = offsets;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public int edges() {
+        return targets.length;
+    }
+
+    // The id of a vertex, or -1 when the graph does not have it
+    public int id(V name) {
+        return ids.getOrDefault(name, -1);
+    }
+
+    public V name(int id) {
+        return names.get(id);
+    }
+
+    public int start(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int end(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights[edge];
+    }
+
+    // The vertex an edge leaves from
+    public int source(int edge) {
+        return sources[edge];
+    }
+
+    public static final class Builder<V> {
+        private final List<V> names = new ArrayList<>();
+        private final Map<V, Integer> ids = new HashMap<>();
+        private int[] sources = new int[64];
+        private int[] targets = new int[64];
+        private int[] weights = new int[64];
+        private int edges;
+
+        public int vertex(V name) {
+            var id = ids.get(name);
+            if (id == null) {
+                id = names.size();
+                ids.put(name, id);
+                names.add(name);
+            }
+            return id;
+        }
+
+        public Builder<V> edge(V from, V to) {
+            return edge(from, to, 1);
+        }
+
+        public Builder<V> edge(V from, V to, int weight) {
+            var source = vertex(from);
+            var target = vertex(to);
+            if (edges == targets.length) {
+                sources = Arrays.copyOf(sources, edges * 2);
+                targets = Arrays.copyOf(targets, edges * 2);
+                weights = Arrays.copyOf(weights, edges * 2);
+            }
+            sources[edges] = source;
+            targets[edges] = target;
+            weights[edges] = weight;
+            edges++;
+            return this;
+        }
+
+        public CsrGraph<V> build() {
+            // a counting sort on the sources, stable so every vertex keeps its edge order
+            var size = names.size();
+            var offsets = new int[size + 1];
+            for (int e = 0; e < edges; e++) {
+                offsets[sources[e] + 1]++;
+            }
+            for (int v = 0; v < size; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            var next = Arrays.copyOf(offsets, size);
+            var sortedSources = new int[edges];
+            var sortedTargets = new int[edges];
+            var sortedWeights = new int[edges];
+            for (int e = 0; e < edges; e++) {
+                var position = next[sources[e]]++;
+                sortedSources[position] = sources[e];
+                sortedTargets[position] = targets[e];
+                sortedWeights[position] = weights[e];
+            }
+            return new CsrGraph<>(List.copyOf(names), Map.copyOf(ids), offsets, sortedSources, sortedTargets, sortedWeights);
+        }
+    }
+}
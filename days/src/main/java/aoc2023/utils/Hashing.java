@@ -0,0 +1,32 @@
+package aoc2023.utils;
+
+// Shared sizing and mixing for the open-addressing collections
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    // Tables are kept at most half full, which keeps the probe sequences short
+    static int capacityFor(int expected) {
+        var capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Too many elements: " + expected);
+        }
+        return capacity;
+    }
+
+    static int threshold(int capacity) {
+        return capacity >>> 1;
+    }
+
+    // Fibonacci hashing: packed coordinates differ mostly in their low bits
+    static int mix(long key) {
+        var h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static int mix(int key) {
+        var h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
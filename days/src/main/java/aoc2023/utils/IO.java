@@ -2,9 +2,18 @@ package aoc2023.utils;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.foreign.Arena;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class IO {
     public static List<String> getResourceAsList(String name) {
@@ -23,4 +32,62 @@ public class IO {
         return Arrays.stream(lines.split("\n"))
                 .toList();
     }
+
+    public static MappedLines mapFile(Path path) throws IOException {
+        var arena = Arena.ofShared();
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new MappedLines(segment, arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public static MappedLines mapResource(String name) {
+        var loader = IO.class.getClassLoader();
+        var url = loader.getResource(name);
+        if (url == null) {
+            throw new IllegalArgumentException("Resource not found: " + name);
+        }
+        try {
+            if (url.getProtocol().equals("file")) {
+                return mapFile(Path.of(url.toURI()));
+            }
+            // resources inside a jar cannot be mapped, so they are read onto the heap
+            try (var inputStream = url.openStream()) {
+                return MappedLines.of(inputStream.readAllBytes());
+            }
+        } catch (IOException | URISyntaxException e) {
+            // Handle or log the exception appropriately
+            e.printStackTrace();
+            return MappedLines.of(new byte[0]);
+        }
+    }
+
+    // Lazy: lines are read as the stream pulls them and are never all held at once.
+    // Closing the stream closes the input.
+    public static Stream<CharSequence> streamFile(Path path) throws IOException {
+        return new LineReader(Files.newInputStream(path)).stream();
+    }
+
+    public static Stream<CharSequence> streamResource(String name) {
+        var inputStream = IO.class.getClassLoader().getResourceAsStream(name);
+        if (inputStream == null) {
+            throw new IllegalArgumentException("Resource not found: " + name);
+        }
+        return new LineReader(inputStream).stream();
+    }
+
+    // Push-based: action sees each line as a view over the read buffer, valid only during
+    // the call, so nothing is allocated per line
+    public static void forEachLine(InputStream in, Consumer<? super CharSequence> action) throws IOException {
+        try (var reader = new LineReader(in)) {
+            reader.forEach(action);
+        }
+    }
+
+    public static void forEachLine(Path path, Consumer<? super CharSequence> action) throws IOException {
+        forEachLine(Files.newInputStream(path), action);
+    }
 }
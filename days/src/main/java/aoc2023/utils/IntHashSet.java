@@ -0,0 +1,91 @@
+package aoc2023.utils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Open-addressing (linear probing) set of ints without boxing.
+// Zero marks the free slots, so its membership is tracked apart.
+public class IntHashSet {
+
+    private int[] keys;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expected) {
+        allocate(Hashing.capacityFor(expected));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public boolean add(int key) {
+        if (key == 0) {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+        var slot = Hashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > Hashing.threshold(keys.length)) {
+            rehash();
+        }
+        return true;
+    }
+
+    public boolean contains(int key) {
+        if (key == 0) return hasZero;
+        var slot = Hashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (hasZero) action.accept(0);
+        for (var key : keys) {
+            if (key != 0) action.accept(key);
+        }
+    }
+
+    private void rehash() {
+        var old = keys;
+        allocate(old.length * 2);
+        for (var key : old) {
+            if (key != 0) {
+                var slot = Hashing.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package aoc2023.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Reads single-byte text lines from a stream through one reusable buffer, so memory stays
+// constant whatever the size of the input: the buffer only grows to fit the longest line.
+// next() pushes a view over the buffer, valid only until it returns; nextLine() copies.
+public final class LineReader implements AutoCloseable {
+
+    private final InputStream in;
+    private final View view = new View();
+    private byte[] buffer = new byte[1 << 16];
+    private int start;
+    private int end;
+    private boolean eof;
+
+    public LineReader(InputStream in) {
+        this.in = in;
+    }
+
+    // Hands the next line to action and returns true, or returns false at the end of the input
+    public boolean next(Consumer<? super CharSequence> action) throws IOException {
+        if (!advance()) return false;
+        action.accept(view);
+        return true;
+    }
+
+    public String nextLine() throws IOException {
+        return advance() ? view.toString() : null;
+    }
+
+    // Points the view at the next line and moves past it
+    private boolean advance() throws IOException {
+        var newline = findNewline();
+        if (newline < 0) return false;
+        var length = newline - start;
+        if (length > 0 && buffer[newline - 1] == '\r') length--;
+        view.set(start, length);
+        start = Math.min(newline + 1, end);
+        return true;
+    }
+
+    // The index of the '\n' ending the line at start (or of the end of the input), -1 when
+    // there is no line left
+    private int findNewline() throws IOException {
+        var scanned = 0;
+        while (true) {
+            for (int i = start + scanned; i < end; i++) {
+                if (buffer[i] == '\n') return i;
+            }
+            scanned = end - start;
+            if (eof) return start < end ? end : -1;
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            start = 0;
+        }
+        if (end == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        var read = in.read(buffer, end, buffer.length - end);
+        if (read < 0) eof = true;
+        else end += read;
+    }
+
+    public void forEach(Consumer<? super CharSequence> action) throws IOException {
+        while (next(action)) {
+        }
+    }
+
+    // A lazy stream of copied lines, reading only as far as the pipeline pulls; closing the
+    // stream closes the input
+    public Stream<CharSequence> stream() {
+        var spliterator = new Spliterators.AbstractSpliterator<CharSequence>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super CharSequence> action) {
+                try {
+                    var line = nextLine();
+                    if (line == null) return false;
+                    action.accept(line);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private final class View implements CharSequence {
+        private int offset;
+        private int length;
+
+        void set(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) (buffer[offset + index] & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package aoc2023.utils;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+// Open-addressing (linear probing) set of longs without boxing.
+// Zero marks the free slots, so its membership is tracked apart.
+public class LongHashSet {
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expected) {
+        allocate(Hashing.capacityFor(expected));
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public boolean add(long key) {
+        if (key == 0) {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+        var slot = Hashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > Hashing.threshold(keys.length)) {
+            rehash();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == 0) return hasZero;
+        var slot = Hashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        hasZero = false;
+        size = 0;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (hasZero) action.accept(0L);
+        for (var key : keys) {
+            if (key != 0) action.accept(key);
+        }
+    }
+
+    private void rehash() {
+        var old = keys;
+        allocate(old.length * 2);
+        for (var key : old) {
+            if (key != 0) {
+                var slot = Hashing.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
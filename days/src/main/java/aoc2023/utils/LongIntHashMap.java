@@ -0,0 +1,109 @@
+package aoc2023.utils;
+
+import java.util.Arrays;
+
+// Open-addressing (linear probing) map from longs to ints without boxing.
+// Zero marks the free slots, so its entry is kept apart.
+public class LongIntHashMap {
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+    private int zeroValue;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expected) {
+        allocate(Hashing.capacityFor(expected));
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        var slot = Hashing.mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    public void put(long key, int value) {
+        if (key == 0) {
+            if (!hasZero) size++;
+            hasZero = true;
+            zeroValue = value;
+            return;
+        }
+        var slot = slot(key);
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size > Hashing.threshold(keys.length)) {
+                rehash();
+            }
+        } else {
+            values[slot] = value;
+        }
+    }
+
+    public int getOrDefault(long key, int missing) {
+        if (key == 0) return hasZero ? zeroValue : missing;
+        var slot = slot(key);
+        return keys[slot] == 0 ? missing : values[slot];
+    }
+
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZero : keys[slot(key)] != 0;
+    }
+
+    public void addTo(long key, int delta) {
+        put(key, getOrDefault(key, 0) + delta);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        hasZero = false;
+        size = 0;
+    }
+
+    public void forEach(EntryConsumer action) {
+        if (hasZero) action.accept(0L, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept(keys[i], values[i]);
+        }
+    }
+
+    private void rehash() {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                var slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package aoc2023.utils;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Lines of a (possibly mapped) byte segment, served as AsciiLine views.
+// Streaming never builds the line index; it is only computed on the first indexed access.
+public final class MappedLines implements AutoCloseable {
+
+    private final MemorySegment segment;
+    private final Arena arena;
+    private long[] starts;
+    private int size;
+
+    MappedLines(MemorySegment segment, Arena arena) {
+        this.segment = segment;
+        this.arena = arena;
+    }
+
+    public static MappedLines of(byte[] bytes) {
+        return new MappedLines(MemorySegment.ofArray(bytes), null);
+    }
+
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    public int size() {
+        index();
+        return size;
+    }
+
+    public AsciiLine get(int i) {
+        index();
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(i);
+        }
+        return line(starts[i], starts[i + 1]);
+    }
+
+    public Stream<CharSequence> stream() {
+        var iterator = new Iterator<CharSequence>() {
+            long position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < segment.byteSize();
+            }
+
+            @Override
+            public CharSequence next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                var start = position;
+                position = nextLine(start);
+                return line(start, position);
+            }
+        };
+        var characteristics = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false);
+    }
+
+    // Cuts the lines into at most count slices of about the same size, each one ending at a
+    // line boundary. The slices are views of this segment and are valid as long as it is.
+    public List<MappedLines> split(int count) {
+        var slices = new ArrayList<MappedLines>(count);
+        var size = segment.byteSize();
+        long from = 0;
+        for (int i = 1; i <= count && from < size; i++) {
+            var to = i == count ? size : nextLine(Math.max(from, size * i / count - 1));
+            slices.add(new MappedLines(segment.asSlice(from, to - from), null));
+            from = to;
+        }
+        return slices;
+    }
+
+    private void index() {
+        if (starts != null) return;
+        var found = new long[1024];
+        var count = 0;
+        long position = 0;
+        while (position < segment.byteSize()) {
+            if (count + 1 >= found.length) {
+                found = Arrays.copyOf(found, found.length * 2);
+            }
+            found[count++] = position;
+            position = nextLine(position);
+        }
+        found[count] = position;
+        size = count;
+        starts = found;
+    }
+
+    // Returns the offset just after the next '\n' (or the end of the segment)
+    private long nextLine(long position) {
+        var end = segment.byteSize();
+        while (position < end && segment.get(ValueLayout.JAVA_BYTE, position) != '\n') {
+            position++;
+        }
+        return position < end ? position + 1 : end;
+    }
+
+    // Builds the view for [start, next), dropping the line terminator
+    private AsciiLine line(long start, long next) {
+        var end = next;
+        if (end > start && segment.get(ValueLayout.JAVA_BYTE, end - 1) == '\n') end--;
+        if (end > start && segment.get(ValueLayout.JAVA_BYTE, end - 1) == '\r') end--;
+        return new AsciiLine(segment, start, Math.toIntExact(end - start));
+    }
+
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package aoc2023.utils;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Named counters and gauges that the solvers update while they run. Names start with the
+// day ("day17.expanded") so the runner can report them per day. Updates are a LongAdder or
+// LongAccumulator call, cheap enough for the hot loops, but a solver should still add its
+// local tallies once rather than per step where that is easy.
+public final class Metrics {
+
+    public interface Metric {
+        String name();
+
+        long value();
+
+        void reset();
+    }
+
+    public static final class Counter implements Metric {
+        private final String name;
+        private final LongAdder value = new LongAdder();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long n) {
+            value.add(n);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long value() {
+            return value.sum();
+        }
+
+        @Override
+        public void reset() {
+            value.reset();
+        }
+    }
+
+    // keeps the highest value recorded: queue and stack peaks
+    public static final class Gauge implements Metric {
+        private final String name;
+        private final LongAccumulator value = new LongAccumulator(Math::max, 0);
+
+        private Gauge(String name) {
+            this.name = name;
+        }
+
+        public void record(long n) {
+            value.accumulate(n);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long value() {
+            return value.get();
+        }
+
+        @Override
+        public void reset() {
+            value.reset();
+        }
+    }
+
+    private static final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    private Metrics() {
+    }
+
+    public static Counter counter(String name) {
+        return (Counter) metrics.computeIfAbsent(name, Counter::new);
+    }
+
+    public static Gauge gauge(String name) {
+        return (Gauge) metrics.computeIfAbsent(name, Gauge::new);
+    }
+
+    public static Map<String, Long> snapshot(String prefix) {
+        var result = new TreeMap<String, Long>();
+        for (var metric : metrics.values()) {
+            if (metric.name().startsWith(prefix))
+                result.put(metric.name(), metric.value());
+        }
+        return result;
+    }
+
+    public static void reset(String prefix) {
+        for (var metric : metrics.values()) {
+            if (metric.name().startsWith(prefix))
+                metric.reset();
+        }
+    }
+
+    public static void dump(String prefix, PrintStream out) {
+        snapshot(prefix).forEach((name, value) -> out.println(name + " = " + value));
+    }
+}
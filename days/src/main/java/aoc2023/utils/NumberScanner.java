@@ -0,0 +1,96 @@
+package aoc2023.utils;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Reads the (optionally negative) integers embedded in a line, skipping anything else.
+// It works on any CharSequence, so it can read straight from the mapped AsciiLine views.
+public final class NumberScanner {
+
+    private final CharSequence text;
+    private final int end;
+    private int position;
+
+    public NumberScanner(CharSequence text) {
+        this(text, 0, text.length());
+    }
+
+    public NumberScanner(CharSequence text, int start, int end) {
+        this.text = text;
+        this.position = start;
+        this.end = end;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    private static boolean isDigit(char c) {
+        return '0' <= c && c <= '9';
+    }
+
+    private boolean numberStartsAt(int i) {
+        var c = text.charAt(i);
+        return isDigit(c) || c == '-' && i + 1 < end && isDigit(text.charAt(i + 1));
+    }
+
+    public boolean hasNext() {
+        while (position < end && !numberStartsAt(position)) {
+            position++;
+        }
+        return position < end;
+    }
+
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more numbers in: " + text);
+        }
+        var negative = text.charAt(position) == '-';
+        if (negative) position++;
+        long value = 0;
+        char c;
+        while (position < end && isDigit(c = text.charAt(position))) {
+            value = value * 10 + (c - '0');
+            position++;
+        }
+        return negative ? -value : value;
+    }
+
+    public int nextInt() {
+        return Math.toIntExact(nextLong());
+    }
+
+    // Reads the numbers found before the next delimiter and leaves the scanner just after it
+    public int[] nextIntsUntil(char delimiter) {
+        var values = new int[16];
+        var count = 0;
+        while (position < end && text.charAt(position) != delimiter) {
+            if (numberStartsAt(position)) {
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, count * 2);
+                }
+                values[count++] = nextInt();
+            } else {
+                position++;
+            }
+        }
+        if (position < end) position++;
+        return Arrays.copyOf(values, count);
+    }
+
+    public int[] remainingInts() {
+        return nextIntsUntil('\n');
+    }
+
+    public long[] remainingLongs() {
+        var values = new long[16];
+        var count = 0;
+        while (hasNext()) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = nextLong();
+        }
+        return Arrays.copyOf(values, count);
+    }
+}
@@ -0,0 +1,56 @@
+package aoc2023.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// A JFR event around a parse step or a part, so a recording can line GC pauses and
+// allocation spikes up with the phase that caused them. With recording off begin/end are
+// intrinsics that do nothing and the fields are never filled.
+@Name("aoc2023.Phase")
+@Label("Solver Phase")
+@Category("Advent of Code")
+@StackTrace(false)
+public class PhaseEvent extends Event {
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Input Size")
+    @Description("Lines, or items, handed to the phase")
+    public long inputSize;
+
+    @Label("Result Size")
+    @Description("Items produced by a parse step; characters of the answer for a part")
+    public long resultSize;
+
+    public static PhaseEvent start() {
+        var event = new PhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String phase, long inputSize, long resultSize) {
+        end();
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.inputSize = inputSize;
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+
+    // The answer is only turned into text when the event is recorded
+    public void finishPart(String phase, long inputSize, Object answer) {
+        end();
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.inputSize = inputSize;
+            this.resultSize = String.valueOf(answer).length();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package aoc2023.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// A buffer (memo table, queue, visited set...) that a solver reuses from one input to the
+// next instead of allocating it again. get() hands it back already reset, so a solver must
+// not ask for it again while it is still using it.
+// Buffers are only kept inside a Scope, one per thread that runs in it, and are dropped when
+// the scope is closed: a run over many inputs (a Batch) opens one. Outside of any scope get()
+// creates a fresh buffer, so nothing outlives the solve that used it.
+public final class Scratch<T> {
+
+    // the buffers of the scope the current thread runs in, if any
+    private static final ThreadLocal<Map<Scratch<?>, Object>> bound = new ThreadLocal<>();
+
+    private final Supplier<T> create;
+    private final Consumer<T> reset;
+
+    private Scratch(Supplier<T> create, Consumer<T> reset) {
+        this.create = create;
+        this.reset = reset;
+    }
+
+    public static <T> Scratch<T> of(Supplier<T> create, Consumer<T> reset) {
+        return new Scratch<>(create, reset);
+    }
+
+    public static Scope scope() {
+        return new Scope();
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get() {
+        var buffers = bound.get();
+        if (buffers == null) {
+            return create.get();
+        }
+        var value = (T) buffers.computeIfAbsent(this, scratch -> create.get());
+        reset.accept(value);
+        return value;
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Map<Thread, Map<Scratch<?>, Object>> threads = new ConcurrentHashMap<>();
+
+        private Scope() {
+        }
+
+        // Runs task with the buffers this scope keeps for the current thread
+        public <V> V call(Supplier<V> task) {
+            var previous = bound.get();
+            bound.set(threads.computeIfAbsent(Thread.currentThread(), thread -> new HashMap<>()));
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) bound.remove();
+                else bound.set(previous);
+            }
+        }
+
+        @Override
+        public void close() {
+            threads.clear();
+        }
+    }
+}
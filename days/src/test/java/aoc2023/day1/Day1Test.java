@@ -1,9 +1,12 @@
 package aoc2023.day1;
 
 import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class Day1Test {
@@ -66,4 +69,26 @@ class Day1Test {
     void overlapped2() {
         assertEquals(79, day1.calibrationValue2("sevenine"));
     }
+
+    @Test
+    @DisplayName("part2 - long line, matches at both ends")
+    void longLine() {
+        var line = "xtwone" + "abcdefghijklmnopqrstuvwxyz".repeat(10_000) + "sevenineight";
+        assertEquals(28, day1.calibrationValue2(line));
+        assertEquals(0, day1.calibrationValue1(line));
+    }
+
+    @Test
+    @DisplayName("part1 - mapped bytes, same as the lines")
+    void mapped() {
+        var text = part1 + "\r\nno digits\n\n" + "x7".repeat(20) + "abc5\n" + "é9ü1\r\n42";
+        var data = IO.splitLinesAsList(text);
+        var bytes = text.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i <= 16; i++) {
+            // every alignment of the words and a line cut by the scalar tail
+            var shifted = ("\n".repeat(i) + text).getBytes(StandardCharsets.UTF_8);
+            assertEquals(day1.part1(data), day1.part1(MappedLines.of(shifted)));
+        }
+        assertEquals(142 + 75 + 91 + 42, day1.part1(MappedLines.of(bytes)));
+    }
 }
@@ -1,13 +1,24 @@
 package aoc2023.day16;
 
+import aoc2023.utils.Allocations;
+import aoc2023.utils.CharGrid;
 import aoc2023.utils.IO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class Day16Test {
 
+    @TempDir
+    Path dir;
+
     static final String example = """
             .|...\\....
             |.-.\\.....
@@ -50,4 +61,22 @@ class Day16Test {
         var data = IO.getResourceAsList("day16.txt");
         assertEquals(7313, day16.part2(data));
     }
+
+    @Test
+    @DisplayName("part2 - example data - off-heap grid")
+    void test5() throws IOException {
+        var file = dir.resolve("day16.txt");
+        Files.writeString(file, example);
+        var layout = new Day16.Layout(CharGrid.load(file, '$'));
+        assertEquals(51, layout.part2());
+    }
+
+    @Test
+    @DisplayName("allocation budget - Beam.ahead")
+    void test6() {
+        var beam = new Day16.Beam(5, 5, Day16.Direction.DOWN);
+        var bytes = Allocations.perCall(100_000, () -> Allocations.sink = beam.ahead());
+        // one Beam record; lower the budget when the step stops allocating
+        assertTrue(bytes <= 24, "Beam.ahead allocates " + bytes + " bytes per call");
+    }
 }
@@ -1,13 +1,24 @@
 package aoc2023.day17;
 
+import aoc2023.utils.Allocations;
+import aoc2023.utils.CharGrid;
 import aoc2023.utils.IO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class Day17Test {
 
+    @TempDir
+    Path dir;
+
     static final String example = """
             2413432311323
             3215453535623
@@ -53,4 +64,22 @@ class Day17Test {
         var data = IO.getResourceAsList("day17.txt");
         assertEquals(829, day17.part2(data));
     }
+
+    @Test
+    @DisplayName("part2 - example data - off-heap grid")
+    void test5() throws IOException {
+        var file = dir.resolve("day17.txt");
+        Files.writeString(file, example);
+        var map = new Day17.Map(CharGrid.load(file, '#'));
+        assertEquals(94, map.part2());
+    }
+
+    @Test
+    @DisplayName("allocation budget - Bobby.straight")
+    void test6() {
+        var bobby = new Day17.Bobby(new Day17.Position(3, 3), Day17.Direction.RIGHT);
+        var bytes = Allocations.perCall(100_000, () -> Allocations.sink = bobby.straight());
+        // a Bobby and its Position; lower the budget when the step stops allocating
+        assertTrue(bytes <= 48, "Bobby.straight allocates " + bytes + " bytes per call");
+    }
 }
@@ -1,9 +1,14 @@
 package aoc2023.day2;
 
 import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class Day2Test {
@@ -51,9 +56,9 @@ class Day2Test {
     void test5() {
         var game = Day2.Game.parse("Game 1: 3 blue, 4 red; 1 red, 2 green, 6 blue; 2 green");
         assertEquals(1, game.id());
-        assertEquals(4, game.cubes().get(Day2.Color.RED));
-        assertEquals(2, game.cubes().get(Day2.Color.GREEN));
-        assertEquals(6, game.cubes().get(Day2.Color.BLUE));
+        assertEquals(4, game.red());
+        assertEquals(2, game.green());
+        assertEquals(6, game.blue());
     }
 
     @Test
@@ -61,9 +66,9 @@ class Day2Test {
     void test6() {
         var game = Day2.Game.parse("Game 2: 1 blue, 2 green; 3 green, 4 blue, 1 red; 1 green, 1 blue");
         assertEquals(2, game.id());
-        assertEquals(1, game.cubes().get(Day2.Color.RED));
-        assertEquals(3, game.cubes().get(Day2.Color.GREEN));
-        assertEquals(4, game.cubes().get(Day2.Color.BLUE));
+        assertEquals(1, game.red());
+        assertEquals(3, game.green());
+        assertEquals(4, game.blue());
     }
 
     @Test
@@ -72,4 +77,19 @@ class Day2Test {
         var game = Day2.Game.parse("Game 1: 3 blue, 4 red; 1 red, 2 green, 6 blue; 2 green");
         assertEquals(48, game.power());
     }
+
+    @Test
+    @DisplayName("parse - mapped bytes, same columns as the lines")
+    void test8() {
+        var text = example.replace("\n", "\r\n") + "\nGame 6: 2 purple, 1 red";
+        var fromLines = Day2.Games.parse(IO.splitLinesAsList(text).stream());
+        var mapped = Day2.Games.parse(MappedLines.of(text.getBytes(StandardCharsets.UTF_8)).segment());
+        assertEquals(6, mapped.size);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6}, Arrays.copyOf(mapped.ids, mapped.size));
+        assertArrayEquals(Arrays.copyOf(fromLines.reds, fromLines.size), Arrays.copyOf(mapped.reds, mapped.size));
+        assertArrayEquals(Arrays.copyOf(fromLines.greens, fromLines.size), Arrays.copyOf(mapped.greens, mapped.size));
+        assertArrayEquals(Arrays.copyOf(fromLines.blues, fromLines.size), Arrays.copyOf(mapped.blues, mapped.size));
+        assertEquals(8 + 6, mapped.validIds());
+        assertEquals(2286, mapped.powers());
+    }
 }
@@ -1,13 +1,24 @@
 package aoc2023.day21;
 
+import aoc2023.utils.Allocations;
+import aoc2023.utils.CharGrid;
 import aoc2023.utils.IO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class Day21Test {
 
+    @TempDir
+    Path dir;
+
     static final String example = """
             ...........
             .....###.#.
@@ -60,4 +71,22 @@ class Day21Test {
         var data = IO.getResourceAsList("day21.txt");
         assertEquals(609012263058042L, day21.part2(data, 26501365));
     }
+
+    @Test
+    @DisplayName("part1 - example data 6 steps - mapped grid")
+    void test5() throws IOException {
+        var file = dir.resolve("day21.txt");
+        Files.writeString(file, example);
+        var map = new Day21.Map(CharGrid.map(file));
+        assertEquals(16, map.walk(6));
+    }
+
+    @Test
+    @DisplayName("allocation budget - Position.candidates")
+    void test6() {
+        var position = new Day21.Position(3, 3);
+        var bytes = Allocations.perCall(100_000, () -> Allocations.sink = position.candidates(position));
+        // a stream, its list and four Positions; lower the budget when the step stops allocating
+        assertTrue(bytes <= 368, "Position.candidates allocates " + bytes + " bytes per call");
+    }
 }
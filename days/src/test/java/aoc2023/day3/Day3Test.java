@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -127,4 +128,50 @@ class Day3Test {
         );
         assertEquals(expected, schematic.gearPositions());
     }
+
+    @Test
+    @DisplayName("streaming window - example data")
+    void test11() {
+        var window = Day3.scan(IO.splitLinesAsList(example).stream());
+        assertEquals(4361, window.partNumbers());
+        assertEquals(467835, window.gearRatios());
+    }
+
+    @Test
+    @DisplayName("streaming window - numbers on the borders, single row, ragged rows")
+    void test12() {
+        var data = List.of("12*3", "4..5", "..#6");
+        assertEquals(day3.part1(data), day3.part1(data.stream()));
+        assertEquals(day3.part2(data), day3.part2(data.stream()));
+        assertEquals(3, day3.part1(Stream.of("1*2")));
+        assertEquals(2, day3.part2(Stream.of("1*2")));
+        assertThrows(IllegalArgumentException.class, () -> day3.part1(Stream.of("1*2", "..")));
+    }
+
+    @Test
+    @DisplayName("number labels - ids, values and the numbers around a gear")
+    void test13() {
+        var schematic = new Day3.Schematic(IO.splitLinesAsList(example));
+        var id = schematic.label(1, 1);
+        assertEquals(id, schematic.label(3, 1));
+        assertEquals(0, schematic.label(4, 1));
+        assertEquals(467, schematic.value(id));
+        assertTrue(schematic.isPart(id));
+        assertFalse(schematic.isPart(schematic.label(6, 1)));
+
+        var ids = new int[6];
+        assertEquals(2, schematic.numbersAround(new Day3.Position(4, 2), ids));
+        assertEquals(467, schematic.value(ids[0]));
+        assertEquals(35, schematic.value(ids[1]));
+        assertEquals(1, schematic.numbersAround(new Day3.Position(4, 5), ids));
+        assertEquals(617, schematic.value(ids[0]));
+    }
+
+    @Test
+    @DisplayName("both parts from one labelled schematic")
+    void test14() {
+        var answers = day3.answers(IO.splitLinesAsList(example));
+        assertEquals(4361, answers.part1());
+        assertEquals(467835, answers.part2());
+    }
 }
@@ -3,10 +3,13 @@ package aoc2023.day7;
 import aoc2023.day7.Day7.Hand;
 import aoc2023.day7.Day7.HandType;
 import aoc2023.utils.IO;
+import aoc2023.utils.MappedLines;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static aoc2023.day7.Day7.Hand.classifyWithJokers;
@@ -120,4 +123,21 @@ class Day7Test {
         assertEquals(HandType.ONE_PAIR, classifyWithoutJokers("JK336"));
         assertEquals(HandType.THREE_OF_A_KIND, classifyWithJokers("JK336"));
     }
+
+    @Test
+    @DisplayName("strength sorts like the comparators")
+    void test13() {
+        var hands = new ArrayList<>(IO.splitLinesAsList(example).stream().map(Hand::parse2).toList());
+        var byStrength = hands.stream().sorted(Comparator.comparingLong(h -> h.strength(Hand.ORDER2))).toList();
+        hands.sort(new Hand.HandComparatorPart2());
+        assertEquals(hands, byStrength);
+    }
+
+    @Test
+    @DisplayName("part1 and part2 - mapped example data")
+    void test14() {
+        var lines = MappedLines.of(example.getBytes(StandardCharsets.US_ASCII));
+        assertEquals(6440L, day7.part1(lines));
+        assertEquals(5905L, day7.part2(lines));
+    }
 }
@@ -0,0 +1,76 @@
+package aoc2023.generator;
+
+import aoc2023.runner.Puzzles;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class GeneratorsTest {
+
+    // small scales, so every solver runs in the blink of an eye
+    static final Map<Integer, Integer> scales = Map.ofEntries(
+            Map.entry(1, 50), Map.entry(2, 50), Map.entry(3, 30), Map.entry(4, 50), Map.entry(5, 20),
+            Map.entry(7, 100), Map.entry(8, 5), Map.entry(9, 50), Map.entry(10, 20),
+            Map.entry(11, 30), Map.entry(12, 30), Map.entry(13, 10), Map.entry(14, 20), Map.entry(15, 100),
+            Map.entry(16, 20), Map.entry(17, 20), Map.entry(18, 20), Map.entry(19, 30), Map.entry(20, 8),
+            Map.entry(21, 10), Map.entry(22, 100), Map.entry(23, 4), Map.entry(24, 10), Map.entry(25, 40));
+
+    // brute force searches that take seconds whatever the scale
+    static final Map<Integer, Integer> slowParts = Map.of(21, 2, 24, 2);
+
+    @Test
+    @DisplayName("every generated input is solved")
+    void test1() {
+        scales.forEach((day, scale) -> {
+            var data = Generators.lines(day, scale, day);
+            var puzzle = Puzzles.get(day);
+            for (int part = 1; part <= puzzle.parts().size(); part++) {
+                if (slowParts.getOrDefault(day, 0) == part) continue;
+                assertNotNull(puzzle.solve(part, data), "day " + day + " part " + part);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("same seed, same input")
+    void test2() {
+        assertEquals(Generators.lines(7, 20, 1), Generators.lines(7, 20, 1));
+    }
+
+    @Test
+    @DisplayName("day8 - ghosts meet after the product of their ring lengths")
+    void test3() {
+        var puzzle = Puzzles.get(8);
+        var data = Generators.lines(8, 7, 8);
+        assertEquals(43L * 7, puzzle.solve(1, data));
+        assertEquals(43L * 47 * 53 * 59 * 61 * 67 * 7, puzzle.solve(2, data));
+    }
+
+    @Test
+    @DisplayName("day20 - rx gets a low pulse after the product of the counter periods")
+    void test4() {
+        var data = Generators.lines(20, 8, 20);
+        // a counter's period is the sum of the bits that feed its hub
+        var expected = 1L;
+        for (var hub : new String[]{"haa", "hab", "hac", "had"}) {
+            var period = 0L;
+            for (var line : data) {
+                if (line.startsWith("%f") && line.contains(hub))
+                    period += 1L << Integer.parseInt(line.substring(4, line.indexOf(' ')));
+            }
+            expected *= period;
+        }
+        assertEquals(expected, Puzzles.get(20).solve(2, data));
+    }
+
+    @Test
+    @DisplayName("day6 - only the text format, the puzzle embeds its input")
+    void test5() {
+        var data = Generators.lines(6, 4, 6);
+        assertEquals(2, data.size());
+    }
+}
@@ -0,0 +1,81 @@
+package aoc2023.runner;
+
+import aoc2023.generator.Generators;
+import aoc2023.utils.Allocations;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Bytes allocated by each part on a fixed generated input, on all threads (the chunked
+// parsers run on the common pool). The budgets are the allocation measured when they were
+// recorded plus 50%, for JIT and GC noise. When a change lowers the allocation of a day,
+// lower its budget too so that the gain is kept.
+class AllocationBudgetTest {
+
+    record Budget(int day, int part, int scale, long bytes) {
+    }
+
+    // Day6 has no input to scale, Day25 and the second parts of Day21 and Day24 are random or
+    // brute force searches whose allocation says little about their hot loops
+    static final List<Budget> budgets = List.of(
+            new Budget(1, 1, 200, 600L),
+            new Budget(1, 2, 200, 600L),
+            new Budget(2, 1, 200, 10_000L),
+            new Budget(2, 2, 200, 10_000L),
+            new Budget(3, 1, 60, 42_000L),
+            new Budget(3, 2, 60, 73_000L),
+            new Budget(4, 1, 200, 190_000L),
+            new Budget(4, 2, 200, 220_000L),
+            new Budget(5, 1, 50, 140_000L),
+            new Budget(5, 2, 50, 2_000_000L),
+            new Budget(7, 1, 500, 860_000L),
+            new Budget(7, 2, 500, 860_000L),
+            new Budget(8, 1, 5, 5_300_000L),
+            new Budget(8, 2, 5, 5_700_000L),
+            new Budget(9, 1, 200, 840_000L),
+            new Budget(9, 2, 200, 850_000L),
+            new Budget(10, 1, 40, 64_000L),
+            new Budget(10, 2, 40, 170_000L),
+            new Budget(11, 1, 60, 1_400_000L),
+            new Budget(11, 2, 60, 1_400_000L),
+            new Budget(12, 1, 60, 2_500_000L),
+            new Budget(12, 2, 60, 56_000_000L),
+            new Budget(13, 1, 40, 940_000L),
+            new Budget(13, 2, 40, 1_200_000L),
+            new Budget(14, 1, 40, 2_900L),
+            new Budget(14, 2, 40, 260_000L),
+            new Budget(15, 1, 500, 50_000L),
+            new Budget(15, 2, 500, 240_000L),
+            new Budget(16, 1, 40, 17_000L),
+            new Budget(16, 2, 40, 2_600_000L),
+            new Budget(17, 1, 40, 19_000_000L),
+            new Budget(17, 2, 40, 34_000_000L),
+            new Budget(18, 1, 60, 67_000L),
+            new Budget(18, 2, 60, 75_000L),
+            new Budget(19, 1, 60, 330_000L),
+            new Budget(19, 2, 60, 230_000L),
+            new Budget(20, 1, 8, 23_000_000L),
+            new Budget(20, 2, 8, 6_800_000L),
+            new Budget(21, 1, 20, 22_000_000L),
+            new Budget(22, 1, 300, 820_000L),
+            new Budget(22, 2, 300, 26_000_000L),
+            new Budget(23, 1, 4, 130_000L),
+            new Budget(23, 2, 4, 400_000L),
+            new Budget(24, 1, 20, 3_200_000L));
+
+    @Test
+    void partsStayWithinBudget() {
+        var over = new ArrayList<String>();
+        for (var budget : budgets) {
+            var data = Generators.lines(budget.day(), budget.scale(), budget.day());
+            var puzzle = Puzzles.get(budget.day());
+            var bytes = Allocations.steady(() -> Allocations.sink = puzzle.solve(budget.part(), data));
+            if (bytes > budget.bytes())
+                over.add("day %d part %d: %,d bytes, budget %,d".formatted(budget.day(), budget.part(), bytes, budget.bytes()));
+        }
+        assertTrue(over.isEmpty(), String.join("\n", over));
+    }
+}
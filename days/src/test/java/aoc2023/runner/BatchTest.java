@@ -0,0 +1,57 @@
+package aoc2023.runner;
+
+import aoc2023.generator.Generators;
+import aoc2023.utils.Scratch;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchTest {
+
+    @Test
+    void sameAnswersAsOneByOne() throws InterruptedException, ExecutionException {
+        var inputs = new ArrayList<List<String>>();
+        for (int seed = 0; seed < 12; seed++)
+            inputs.add(Generators.lines(17, 15, seed));
+        var report = Batch.solve(() -> Puzzles.get(17), 2, inputs, 3);
+        assertEquals(12, report.outcomes().size());
+        assertEquals(0L, report.failures());
+        var puzzle = Puzzles.get(17);
+        for (var outcome : report.outcomes()) {
+            assertEquals(puzzle.solve(2, inputs.get(outcome.index())), outcome.measurement().result());
+        }
+    }
+
+    @Test
+    void failuresAreReported() throws InterruptedException, ExecutionException {
+        var inputs = List.of(List.of("1"), List.<String>of(), List.of("2"));
+        var puzzle = Puzzle.of(1, data -> Integer.parseInt(data.getFirst()));
+        var report = Batch.solve(() -> puzzle, 1, inputs, 2);
+        assertEquals(1L, report.failures());
+        assertEquals(2, report.outcomes().get(2).measurement().result());
+    }
+
+    @Test
+    void scratchIsKeptOnlyInsideTheScope() {
+        var buffers = Scratch.of(ArrayList<String>::new, ArrayList::clear);
+        assertNotSame(buffers.get(), buffers.get());
+        ArrayList<String> kept;
+        try (var scope = Scratch.scope()) {
+            kept = scope.call(buffers::get);
+            kept.add("used");
+            assertSame(kept, scope.call(buffers::get));
+            assertTrue(kept.isEmpty());
+            assertNotSame(kept, buffers.get());
+        }
+        try (var scope = Scratch.scope()) {
+            assertNotSame(kept, scope.call(buffers::get));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package aoc2023.runner;
+
+import aoc2023.generator.Generators;
+import aoc2023.utils.IO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IncrementalSumTest {
+
+    static List<String> lines(Incremental incremental, List<String> records) {
+        return IO.splitLinesAsList(String.join(incremental.blocks() ? "\n\n" : "\n", records));
+    }
+
+    @Test
+    void matchesTheFullSolveAcrossEdits() {
+        for (var incremental : Puzzles.incremental()) {
+            var day = incremental.day();
+            var puzzle = Puzzles.get(day);
+            var scale = Generators.sampleScale(day);
+            var records = new ArrayList<>(incremental.records(Generators.lines(day, scale, 1)));
+            var other = incremental.records(Generators.lines(day, scale, 2));
+            for (int part = 1; part <= incremental.parts().size(); part++) {
+                var name = "day " + day + " part " + part;
+                var sum = incremental.sum(part);
+                var expected = ((Number) puzzle.solve(part, lines(incremental, records))).longValue();
+                assertEquals(expected, sum.update(records), name);
+                assertEquals(records.size(), sum.computed() + sum.reused(), name);
+
+                // one record edited: only that one is computed again
+                var edited = new ArrayList<>(records);
+                edited.set(records.size() / 2, other.getFirst());
+                expected = ((Number) puzzle.solve(part, lines(incremental, edited))).longValue();
+                assertEquals(expected, sum.update(edited), name);
+                assertEquals(1, sum.computed(), name);
+
+                // and undoing the edit computes the original record again, the cache only
+                // keeps the latest input
+                assertEquals(((Number) puzzle.solve(part, lines(incremental, records))).longValue(), sum.update(records), name);
+                assertEquals(1, sum.computed(), name);
+            }
+        }
+    }
+
+    @Test
+    void duplicatesAreComputedOnce() {
+        var calls = new int[1];
+        var sum = new IncrementalSum(line -> {
+            calls[0]++;
+            return line.length();
+        });
+        assertEquals(9, sum.update(List.of("abc", "abc", "abc")));
+        assertEquals(1, calls[0]);
+        assertEquals(2, sum.reused());
+    }
+
+    @Test
+    void blocksAreSplitOnBlankLines() {
+        var incremental = Incremental.blocks(0, List.of(String::length));
+        assertEquals(List.of("a\nb", "c"), incremental.records(List.of("a", "b", "", "c", "")));
+        assertThrows(IllegalArgumentException.class, () -> incremental.sum(2));
+        assertThrows(IllegalArgumentException.class, () -> Puzzles.incremental(17));
+    }
+}
@@ -0,0 +1,73 @@
+package aoc2023.runner;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ResultCacheTest {
+
+    static final List<String> input = List.of("1 2 3", "4 5 6");
+
+    @Test
+    void survivesReopening() throws IOException {
+        var file = Files.createTempFile("results", ".bin");
+        var key = ResultCache.key(9, 1, input);
+        try (var cache = ResultCache.open(file, 2)) {
+            cache.put(key, 114L);
+            cache.put(ResultCache.key(9, 2, input), 2);
+            cache.put(ResultCache.key(1, 1, input), "text");
+        }
+        try (var cache = ResultCache.open(file, 2)) {
+            assertEquals(Optional.of(114L), cache.get(key));
+            assertEquals(Optional.of(2), cache.get(ResultCache.key(9, 2, input)));
+            assertEquals(Optional.of("text"), cache.get(ResultCache.key(1, 1, input)));
+            assertEquals(Optional.empty(), cache.get(ResultCache.key(9, 1, List.of("1 2 3"))));
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    void tornRecordIsDropped() throws IOException {
+        var file = Files.createTempFile("results", ".bin");
+        try (var cache = ResultCache.open(file, 2)) {
+            cache.put(ResultCache.key(1, 1, input), 1L);
+            cache.put(ResultCache.key(1, 2, input), 2L);
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        try (var cache = ResultCache.open(file, 2)) {
+            assertEquals(Optional.of(1L), cache.get(ResultCache.key(1, 1, input)));
+            assertEquals(Optional.empty(), cache.get(ResultCache.key(1, 2, input)));
+            cache.put(ResultCache.key(1, 2, input), 3L);
+        }
+        try (var cache = ResultCache.open(file, 2)) {
+            assertEquals(Optional.of(3L), cache.get(ResultCache.key(1, 2, input)));
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    void wrappedPuzzleSolvesOnce() throws IOException {
+        var file = Files.createTempFile("results", ".bin");
+        var calls = new AtomicInteger();
+        var puzzle = Puzzle.of(3, data -> calls.incrementAndGet() * 10L);
+        try (var cache = ResultCache.open(file, 2)) {
+            var cached = cache.wrap(puzzle);
+            assertEquals(10L, cached.solve(1, input));
+            assertEquals(10L, cached.solve(1, input));
+            assertNotEquals(10L, cached.solve(1, List.of("other")));
+        }
+        assertEquals(2, calls.get());
+        Files.delete(file);
+    }
+}
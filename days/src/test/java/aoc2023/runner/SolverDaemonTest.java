@@ -0,0 +1,75 @@
+package aoc2023.runner;
+
+import aoc2023.utils.IO;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SolverDaemonTest {
+
+    static final String example = """
+            0 3 6 9 12 15
+            1 3 6 10 15 21
+            10 13 16 21 30 45
+            """;
+
+    @Test
+    void loopback() throws IOException {
+        var daemon = new SolverDaemon(Puzzles::get);
+        try (var server = SolverDaemon.bind(SolverDaemon.address("tcp:0"))) {
+            Thread.ofVirtual().start(() -> daemon.serve(server));
+            var address = server.getLocalAddress();
+            var data = IO.splitLinesAsList(example);
+            assertEquals("ok 114", SolverClient.solve(address, 9, 1, data));
+            assertEquals("ok 2", SolverClient.solve(address, 9, 2, data));
+            assertEquals("error day 9 has no part 3", SolverClient.solve(address, 9, 3, data));
+            assertEquals("error java.lang.IllegalArgumentException: Unknown day: 26", SolverClient.solve(address, 26, 1, data));
+        }
+    }
+
+    @Test
+    void unixDomain() throws IOException {
+        var path = Files.createTempDirectory("daemon").resolve("aoc.sock");
+        var daemon = new SolverDaemon(Puzzles::get);
+        try (var server = SolverDaemon.bind(UnixDomainSocketAddress.of(path))) {
+            Thread.ofVirtual().start(() -> daemon.serve(server));
+            assertEquals("ok 114", SolverClient.solve(server.getLocalAddress(), 9, 1, IO.splitLinesAsList(example)));
+        }
+        Files.deleteIfExists(path);
+        Files.delete(path.getParent());
+    }
+
+    // a raw header, without the input lines a client would send
+    static String send(SocketAddress address, String header) throws IOException {
+        try (var channel = SocketChannel.open(address)) {
+            var writer = new PrintWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            writer.println(header);
+            writer.flush();
+            return new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8)).readLine();
+        }
+    }
+
+    @Test
+    void badLineCounts() throws IOException {
+        var daemon = new SolverDaemon(Puzzles::get);
+        try (var server = SolverDaemon.bind(SolverDaemon.address("tcp:0"))) {
+            Thread.ofVirtual().start(() -> daemon.serve(server));
+            var address = server.getLocalAddress();
+            assertEquals("error bad request: 1 1 -1", send(address, "1 1 -1"));
+            assertEquals("error bad request: 1 1 2000000000", send(address, "1 1 2000000000"));
+            assertEquals("error bad request: 1 1", send(address, "1 1"));
+            assertEquals("ok 114", SolverClient.solve(address, 9, 1, IO.splitLinesAsList(example)));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package aoc2023.utils;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+// Allocation measurements for the budget tests, from the per thread counters of
+// ThreadMXBean#getThreadAllocatedBytes summed over all the threads
+public final class Allocations {
+
+    private static final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // results are stored here so that the JIT cannot drop the calls being measured
+    public static volatile Object sink;
+
+    private Allocations() {
+    }
+
+    // Counted on every live thread, not only the caller: the chunked parsers and the parallel
+    // streams allocate on the common pool workers. The caller is read on its own, so the
+    // snapshots of the other threads are not counted.
+    public static long allocated(Runnable task) {
+        var thread = Thread.currentThread().threadId();
+        var before = perThread();
+        var start = threads.getThreadAllocatedBytes(thread);
+        task.run();
+        var total = threads.getThreadAllocatedBytes(thread) - start;
+        for (var entry : perThread().entrySet()) {
+            if (entry.getKey() != thread) {
+                total += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+            }
+        }
+        return total;
+    }
+
+    private static Map<Long, Long> perThread() {
+        var ids = threads.getAllThreadIds();
+        var bytes = threads.getThreadAllocatedBytes(ids);
+        var counts = new HashMap<Long, Long>();
+        for (int i = 0; i < ids.length; i++) {
+            // -1 for a thread that ended in the meantime
+            if (bytes[i] >= 0) counts.put(ids[i], bytes[i]);
+        }
+        return counts;
+    }
+
+    // The lowest of a few runs after as many warm-up runs, so a stray GC or a JIT
+    // compilation in the middle of a run does not count
+    public static long steady(Runnable task) {
+        for (int i = 0; i < 3; i++)
+            task.run();
+        var min = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++)
+            min = Math.min(min, allocated(task));
+        return min;
+    }
+
+    public static long perCall(int calls, Runnable call) {
+        return steady(() -> {
+            for (int i = 0; i < calls; i++)
+                call.run();
+        }) / calls;
+    }
+}
@@ -0,0 +1,86 @@
+package aoc2023.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CharGridTest {
+
+    @TempDir
+    Path dir;
+
+    static final List<String> data = List.of("ab", "cd");
+
+    @Test
+    void embedded() {
+        var grid = new CharGrid(data, '#');
+        assertEquals("####\n#ab#\n#cd#\n####\n", grid.toString());
+        assertEquals('a', grid.at(1, 1));
+        assertEquals('#', grid.at(0, 1));
+    }
+
+    @Test
+    void notEmbedded() {
+        var grid = new CharGrid(data, false);
+        assertEquals("ab\ncd\n", grid.toString());
+        assertEquals('d', grid.at(1, 1));
+    }
+
+    @Test
+    void neighbourOffsets() {
+        var grid = new CharGrid(data);
+        var a = grid.index(1, 1);
+        assertEquals('.', grid.at(a + grid.offsets[0]));
+        assertEquals('b', grid.at(a + grid.offsets[1]));
+        assertEquals('c', grid.at(a + grid.offsets[2]));
+        assertEquals('.', grid.at(a + grid.offsets[3]));
+        assertEquals(1, grid.x(a));
+        assertEquals(1, grid.y(a));
+    }
+
+    @Test
+    void set() {
+        var grid = new CharGrid(data, false);
+        grid.set(0, 1, 'x');
+        assertEquals("ab\nxd\n", grid.toString());
+    }
+
+    @Test
+    void mapped() throws IOException {
+        var file = dir.resolve("grid.txt");
+        Files.writeString(file, "ab\r\ncd\r\n");
+        var grid = CharGrid.map(file);
+        assertEquals("ab\ncd\n", grid.toString());
+        assertEquals('c', grid.at(0, 1));
+        assertEquals('d', grid.at(grid.index(0, 1) + grid.offsets[1]));
+    }
+
+    @Test
+    void loadedOffHeap() throws IOException {
+        var file = dir.resolve("grid.txt");
+        Files.writeString(file, "ab\ncd");
+        var grid = CharGrid.load(file, '#');
+        assertEquals("####\n#ab#\n#cd#\n####\n", grid.toString());
+    }
+
+    @Test
+    void raggedRowsAreRejected() throws IOException {
+        // the sizes fit a 2 wide grid, the rows do not
+        for (var text : List.of("ab\nc\nde\n", "ab\n\ncd", "ab\r\ncd\nef\r\n")) {
+            var file = dir.resolve("ragged.txt");
+            Files.writeString(file, text);
+            assertThrows(IllegalArgumentException.class, () -> CharGrid.load(file, '#'), text);
+            assertThrows(IllegalArgumentException.class, () -> CharGrid.map(file, true), text);
+        }
+        var file = dir.resolve("grid.txt");
+        Files.writeString(file, "ab\r\ncd");
+        assertEquals("ab\ncd\n", CharGrid.map(file, true).toString());
+    }
+}
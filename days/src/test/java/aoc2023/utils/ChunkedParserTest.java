@@ -0,0 +1,91 @@
+package aoc2023.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunkedParserTest {
+
+    // "i,-i" for every line i
+    static void pairs(CharSequence line, Columns.Builder row) {
+        var scanner = new NumberScanner(line);
+        row.add(scanner.nextLong()).add(scanner.nextLong());
+    }
+
+    static String text(int lines) {
+        var text = new StringBuilder();
+        IntStream.range(0, lines).forEach(i -> text.append(i).append(",-").append(i).append('\n'));
+        return text.toString();
+    }
+
+    static void assertPairs(int lines, Columns columns) {
+        assertEquals(lines, columns.size());
+        assertEquals(2, columns.width());
+        assertArrayEquals(IntStream.range(0, lines).asLongStream().toArray(), columns.column(0));
+        assertArrayEquals(IntStream.range(0, lines).asLongStream().map(i -> -i).toArray(), columns.column(1));
+    }
+
+    @Test
+    void splitEndsOnLineBoundaries() {
+        var lines = MappedLines.of(text(1000).getBytes(StandardCharsets.US_ASCII));
+        var slices = lines.split(7);
+        assertEquals(7, slices.size());
+        var rejoined = new ArrayList<String>();
+        for (var slice : slices) {
+            var bytes = slice.segment().byteSize();
+            assertEquals((byte) '\n', slice.segment().get(ValueLayout.JAVA_BYTE, bytes - 1));
+            slice.stream().map(CharSequence::toString).forEach(rejoined::add);
+        }
+        assertEquals(lines.stream().map(CharSequence::toString).toList(), rejoined);
+    }
+
+    @Test
+    void splitSmallerThanCount() {
+        var lines = MappedLines.of("a\nb".getBytes(StandardCharsets.US_ASCII));
+        var slices = lines.split(8);
+        assertEquals(2, slices.stream().mapToLong(MappedLines::size).sum());
+        assertEquals(0, MappedLines.of(new byte[0]).split(4).size());
+    }
+
+    @Test
+    void mappedChunksKeepLineOrder() {
+        var lines = MappedLines.of(text(5000).getBytes(StandardCharsets.US_ASCII));
+        for (var chunks : new int[]{1, 3, 16}) {
+            assertPairs(5000, ChunkedParser.parse(lines, 2, ChunkedParserTest::pairs, chunks));
+        }
+    }
+
+    @Test
+    void listChunksKeepLineOrder() {
+        var lines = IO.splitLinesAsList(text(5000));
+        for (var chunks : new int[]{1, 3, 16}) {
+            assertPairs(5000, ChunkedParser.parse(lines, 2, ChunkedParserTest::pairs, chunks));
+        }
+        assertPairs(5000, ChunkedParser.parse(lines, 2, ChunkedParserTest::pairs));
+    }
+
+    @Test
+    void rowsMustBeComplete() {
+        var lines = IO.splitLinesAsList("1\n2");
+        assertThrows(IllegalStateException.class, () -> ChunkedParser.parse(lines, 2, (line, row) -> row.add(1)));
+        assertThrows(IllegalStateException.class, () -> ChunkedParser.parse(lines, 1, (line, row) -> row.add(1).add(2)));
+    }
+
+    @Test
+    void singleChunkIsNotCopiedAgain() {
+        var row = new Columns.Builder(2);
+        row.add(1).add(-1);
+        row.endRow();
+        var part = row.build();
+        assertSame(part, Columns.concat(2, List.of(part)));
+    }
+}
@@ -0,0 +1,63 @@
+package aoc2023.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsrGraphTest {
+
+    // edges added out of vertex order: c -> a comes before the edges of a and b
+    static CsrGraph<String> graph() {
+        return new CsrGraph.Builder<String>()
+                .edge("a", "b", 3)
+                .edge("c", "a", 7)
+                .edge("b", "c", 2)
+                .edge("a", "c", 5)
+                .edge("a", "d", 1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Vertices are interned in first-seen order")
+    void interning() {
+        var graph = graph();
+        assertEquals(4, graph.size());
+        assertEquals(5, graph.edges());
+        assertEquals(0, graph.id("a"));
+        assertEquals(1, graph.id("b"));
+        assertEquals(2, graph.id("c"));
+        assertEquals(3, graph.id("d"));
+        assertEquals(-1, graph.id("e"));
+        assertEquals("c", graph.name(2));
+    }
+
+    @Test
+    @DisplayName("Every vertex keeps its edges in the order they were added")
+    void edgeOrder() {
+        var graph = graph();
+        var a = graph.id("a");
+        assertEquals(3, graph.degree(a));
+        var targets = new int[graph.degree(a)];
+        var weights = new int[graph.degree(a)];
+        for (int e = graph.start(a); e < graph.end(a); e++) {
+            targets[e - graph.start(a)] = graph.target(e);
+            weights[e - graph.start(a)] = graph.weight(e);
+        }
+        assertArrayEquals(new int[]{1, 2, 3}, targets);
+        assertArrayEquals(new int[]{3, 5, 1}, weights);
+        assertEquals(0, graph.degree(graph.id("d")));
+    }
+
+    @Test
+    @DisplayName("The source of every edge")
+    void source() {
+        var graph = graph();
+        for (int v = 0; v < graph.size(); v++) {
+            for (int e = graph.start(v); e < graph.end(v); e++) {
+                assertEquals(v, graph.source(e));
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> graph.source(graph.edges()));
+    }
+}
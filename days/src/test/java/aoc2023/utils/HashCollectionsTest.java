@@ -0,0 +1,66 @@
+package aoc2023.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashCollectionsTest {
+
+    @Test
+    void longHashSet() {
+        var set = new LongHashSet();
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        for (long i = -1000; i < 1000; i++) set.add(i * 31);
+        assertEquals(2000, set.size());
+        assertTrue(set.contains(-31000));
+        assertFalse(set.contains(1));
+
+        var seen = new HashSet<Long>();
+        set.forEach(seen::add);
+        assertEquals(2000, seen.size());
+    }
+
+    @Test
+    void intHashSet() {
+        var set = new IntHashSet(2);
+        for (int i = 0; i < 100; i++) set.add(i % 50);
+        assertEquals(50, set.size());
+        assertTrue(set.contains(0));
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+    }
+
+    @Test
+    void longIntHashMap() {
+        var map = new LongIntHashMap();
+        for (int i = 0; i < 1000; i++) map.put(Coordinates.pack(i, -i), i);
+        assertEquals(1000, map.size());
+        assertEquals(7, map.getOrDefault(Coordinates.pack(7, -7), -1));
+        assertEquals(-1, map.getOrDefault(Coordinates.pack(7, 7), -1));
+        map.addTo(0, 5);
+        assertEquals(5, map.getOrDefault(0, -1));
+    }
+
+    @Test
+    void longLongHashMap() {
+        var map = new LongLongHashMap();
+        map.addTo(42, 1);
+        map.addTo(42, 2);
+        assertTrue(map.containsKey(42));
+        assertEquals(3, map.getOrDefault(42, 0));
+        assertFalse(map.containsKey(0));
+    }
+
+    @Test
+    void coordinates() {
+        var packed = Coordinates.pack(-3, 17);
+        assertEquals(-3, Coordinates.x(packed));
+        assertEquals(17, Coordinates.y(packed));
+    }
+}
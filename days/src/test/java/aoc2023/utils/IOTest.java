@@ -3,7 +3,13 @@ package aoc2023.utils;
 import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class IOTest {
 
@@ -13,4 +19,60 @@ class IOTest {
         var expected = ImmutableList.of("alpha", "beta", "gamma");
         assertEquals(expected, contents);
     }
-}
\ No newline at end of file
+
+    @Test
+    void mapResourceIndexed() {
+        try (var lines = IO.mapResource("resource_as_immutable_list.txt")) {
+            assertEquals(3, lines.size());
+            assertEquals("alpha", lines.get(0).toString());
+            assertEquals("beta", lines.get(1).toString());
+            assertEquals("gamma", lines.get(2).toString());
+        }
+    }
+
+    @Test
+    void mapResourceStreamed() {
+        try (var lines = IO.mapResource("resource_as_immutable_list.txt")) {
+            var contents = lines.stream().map(CharSequence::toString).toList();
+            assertEquals(ImmutableList.of("alpha", "beta", "gamma"), contents);
+        }
+    }
+
+    @Test
+    void mappedLinesDropTerminators() {
+        var bytes = "one\r\n\ntwo\n".getBytes(StandardCharsets.US_ASCII);
+        var lines = MappedLines.of(bytes);
+        assertEquals(ImmutableList.of("one", "", "two"), lines.stream().map(CharSequence::toString).toList());
+        assertEquals(3, lines.size());
+        assertEquals('w', lines.get(2).charAt(1));
+        assertEquals("wo", lines.get(2).subSequence(1, 3).toString());
+    }
+
+    @Test
+    void streamResourceLazily() {
+        try (var lines = IO.streamResource("resource_as_immutable_list.txt")) {
+            var contents = lines.map(CharSequence::toString).toList();
+            assertEquals(ImmutableList.of("alpha", "beta", "gamma"), contents);
+        }
+    }
+
+    @Test
+    void forEachLinePushesViews() throws IOException {
+        var bytes = "one\r\n\ntwo".getBytes(StandardCharsets.US_ASCII);
+        var contents = new ArrayList<String>();
+        IO.forEachLine(new ByteArrayInputStream(bytes), line -> contents.add(line.toString()));
+        assertEquals(ImmutableList.of("one", "", "two"), contents);
+    }
+
+    @Test
+    void lineReaderGrowsForLongLines() throws IOException {
+        var longLine = "x".repeat(200_000);
+        var bytes = (longLine + "\nshort\n" + longLine + "\n").getBytes(StandardCharsets.US_ASCII);
+        try (var reader = new LineReader(new ByteArrayInputStream(bytes))) {
+            assertEquals(longLine, reader.nextLine());
+            assertEquals("short", reader.nextLine());
+            assertEquals(longLine, reader.nextLine());
+            assertNull(reader.nextLine());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package aoc2023.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsTest {
+
+    @Test
+    void counter() {
+        var counter = Metrics.counter("test.counter");
+        counter.reset();
+        counter.increment();
+        counter.add(41);
+        assertEquals(42, Metrics.counter("test.counter").value());
+    }
+
+    @Test
+    void gaugeKeepsThePeak() {
+        var gauge = Metrics.gauge("test.gauge");
+        gauge.reset();
+        gauge.record(3);
+        gauge.record(7);
+        gauge.record(5);
+        assertEquals(7, gauge.value());
+    }
+
+    @Test
+    void snapshotAndReset() {
+        Metrics.counter("snap.a").add(2);
+        Metrics.gauge("snap.b").record(9);
+        Metrics.counter("other.c").add(1);
+        assertEquals(Map.of("snap.a", 2L, "snap.b", 9L), Metrics.snapshot("snap."));
+        Metrics.reset("snap.");
+        assertEquals(Map.of("snap.a", 0L, "snap.b", 0L), Metrics.snapshot("snap."));
+        assertTrue(Metrics.counter("other.c").value() > 0);
+    }
+}
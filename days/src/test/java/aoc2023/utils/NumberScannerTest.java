@@ -0,0 +1,51 @@
+package aoc2023.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NumberScannerTest {
+
+    @Test
+    void signedNumbers() {
+        var scanner = new NumberScanner("19, 13, 30 @ -2,  1, -2");
+        assertArrayEquals(new long[]{19, 13, 30, -2, 1, -2}, scanner.remainingLongs());
+        assertFalse(scanner.hasNext());
+    }
+
+    @Test
+    void signNeedsADigit() {
+        var scanner = new NumberScanner("a-b 3-4");
+        assertEquals(3, scanner.nextInt());
+        assertEquals(-4, scanner.nextInt());
+        assertThrows(NoSuchElementException.class, scanner::nextInt);
+    }
+
+    @Test
+    void longValues() {
+        var scanner = new NumberScanner("seeds: 3169137700 271717609");
+        assertEquals(3169137700L, scanner.nextLong());
+        assertEquals(271717609L, scanner.nextLong());
+    }
+
+    @Test
+    void untilDelimiter() {
+        var scanner = new NumberScanner("Card   1: 41 48 83 | 83 86  6");
+        assertEquals(1, scanner.nextInt());
+        scanner.nextIntsUntil(':');
+        assertArrayEquals(new int[]{41, 48, 83}, scanner.nextIntsUntil('|'));
+        assertArrayEquals(new int[]{83, 86, 6}, scanner.remainingInts());
+    }
+
+    @Test
+    void subRange() {
+        var scanner = new NumberScanner("{x=787,m=2655}", 3, 6);
+        assertEquals(787, scanner.nextInt());
+        assertFalse(scanner.hasNext());
+    }
+}
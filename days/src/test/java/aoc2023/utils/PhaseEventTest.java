@@ -0,0 +1,82 @@
+package aoc2023.utils;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PhaseEventTest {
+
+    @Test
+    void notCommittedWithoutRecording() {
+        // nothing to observe, it just must not fail
+        PhaseEvent.start().finish("test.off", 1, 2);
+    }
+
+    @Test
+    void recorded() throws IOException {
+        var file = Files.createTempFile("phase", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable(PhaseEvent.class);
+            recording.start();
+            PhaseEvent.start().finish("test.phase", 10, 3);
+            recording.stop();
+            recording.dump(file);
+        }
+        var events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("aoc2023.Phase"))
+                .toList();
+        Files.delete(file);
+        assertEquals(1, events.size());
+        assertEquals("test.phase", events.getFirst().getString("phase"));
+        assertEquals(10L, events.getFirst().getLong("inputSize"));
+        assertEquals(3L, events.getFirst().getLong("resultSize"));
+    }
+
+    @Test
+    void partsRecordTheLengthOfTheAnswer() throws IOException {
+        var file = Files.createTempFile("phase", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable(PhaseEvent.class);
+            recording.start();
+            PhaseEvent.start().finishPart("test.part", 10, 46_000_000_000L);
+            recording.stop();
+            recording.dump(file);
+        }
+        var events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("aoc2023.Phase"))
+                .toList();
+        Files.delete(file);
+        assertEquals(1, events.size());
+        assertEquals(11L, events.getFirst().getLong("resultSize"));
+    }
+
+    @Test
+    void parseStepsRecordTheirSizes() throws IOException {
+        var file = Files.createTempFile("phase", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable(PhaseEvent.class);
+            recording.start();
+            ChunkedParser.parse("test.columns", List.of("1", "2", "3"), 1, (line, row) -> row.add(line.charAt(0)));
+            CharGrid.parse("test.grid", List.of("abc", "def"), CharGrid::new);
+            recording.stop();
+            recording.dump(file);
+        }
+        var events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("aoc2023.Phase"))
+                .toList();
+        Files.delete(file);
+        assertEquals(2, events.size());
+        assertEquals("test.columns", events.get(0).getString("phase"));
+        assertEquals(3L, events.get(0).getLong("inputSize"));
+        assertEquals(3L, events.get(0).getLong("resultSize"));
+        assertEquals("test.grid", events.get(1).getString("phase"));
+        assertEquals(2L, events.get(1).getLong("inputSize"));
+        assertEquals(6L, events.get(1).getLong("resultSize"));
+    }
+}
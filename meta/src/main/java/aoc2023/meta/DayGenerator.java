@@ -8,6 +8,7 @@ import org.jsoup.select.Elements;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -19,36 +20,61 @@ public class DayGenerator {
     private static final int INDENT = 4;
 
     static String generateProduction(int day, String instructions) {
+        // parse reads a CharSequence, so the same code runs on the List<String> the runner
+        // passes and on the mapped AsciiLine views main streams without copying
         return STR
                 . """
             package aoc2023.day\{ day };
 
+            import aoc2023.runner.Puzzle;
             import aoc2023.utils.IO;
+            import aoc2023.utils.NumberScanner;
+
             import java.util.List;
+            import java.util.stream.Stream;
 
             public class Day\{ day } {
 
-                long part1(List<String> data) {
+                record Line(long[] values) {
+                    static Line parse(CharSequence line) {
+                        return new Line(new NumberScanner(line).remainingLongs());
+                    }
+                }
+
+                long part1(Stream<? extends CharSequence> lines) {
                     throw new UnsupportedOperationException("part1");
                 }
 
-                long part2(List<String> data) {
+                long part2(Stream<? extends CharSequence> lines) {
                     throw new UnsupportedOperationException("part2");
                 }
 
+                long part1(List<String> data) {
+                    return part1(data.stream());
+                }
+
+                long part2(List<String> data) {
+                    return part2(data.stream());
+                }
+
+                public static Puzzle puzzle() {
+                    var day\{ day } = new Day\{ day }();
+                    return Puzzle.of(\{ day }, day\{ day }::part1, day\{ day }::part2);
+                }
+
                 public static void main(String[] args) {
                     var day\{ day } = new Day\{ day }();
-                    var data = IO.getResourceAsList("day\{ day }.txt");
-                    var part1 = day\{ day }.part1(data);
-                    System.out.println("part1 = " + part1);
-            //        var part2 = day\{ day }.part2(data);
-            //        System.out.println("part2 = " + part2);
+                    try (var lines = IO.mapResource("day\{ day }.txt")) {
+                        var part1 = day\{ day }.part1(lines.stream());
+                        System.out.println("part1 = " + part1);
+            //            var part2 = day\{ day }.part2(lines.stream());
+            //            System.out.println("part2 = " + part2);
+                    }
                 }
             }
             """ ;
     }
 
-
     static String generateTest(int day) {
         return STR
                 . """
@@ -103,14 +129,101 @@ public class DayGenerator {
                 """ ;
     }
 
-    static String getInstructionsForPart1(int day) {
+    static String generateBenchmark(int day) {
+        // scale 0 benchmarks the real input, any other scale a generated one of that size
+        return STR
+                . """
+                package aoc2023.day\{ day };
+
+                import aoc2023.generator.Generators;
+                import aoc2023.utils.IO;
+                import org.openjdk.jmh.annotations.Benchmark;
+                import org.openjdk.jmh.annotations.Param;
+                import org.openjdk.jmh.annotations.Scope;
+                import org.openjdk.jmh.annotations.Setup;
+                import org.openjdk.jmh.annotations.State;
+
+                import java.util.List;
+
+                @State(Scope.Benchmark)
+                public class Day\{ day }Benchmark {
+
+                    final Day\{ day } day\{ day } = new Day\{ day }();
+
+                    @Param({"0"})
+                    int scale;
+
+                    List<String> data;
+
+                    @Setup
+                    public void setup() {
+                        data = scale == 0 ? IO.getResourceAsList("day\{ day }.txt") : Generators.lines(\{ day }, scale, 1);
+                    }
+
+                    @Benchmark
+                    public List<Day\{ day }.Line> parse() {
+                        return data.stream().map(Day\{ day }.Line::parse).toList();
+                    }
+
+                    @Benchmark
+                    public long part1() {
+                        return day\{ day }.part1(data);
+                    }
+
+                    @Benchmark
+                    public long part2() {
+                        return day\{ day }.part2(data);
+                    }
+                }
+                """ ;
+    }
+
+    static String generateGenerator(int day) {
+        return STR
+                . """
+                package aoc2023.generator;
+
+                import java.io.PrintWriter;
+                import java.util.random.RandomGenerator;
+
+                // scale = lines
+                class Day\{ day }Generator implements Generator {
+
+                    @Override
+                    public void generate(int scale, RandomGenerator random, PrintWriter out) {
+                        throw new UnsupportedOperationException("Day\{ day }Generator");
+                    }
+                }
+                """ ;
+    }
+
+    // Pages fetched online are kept here, so the generator also works without network
+    static Path cacheFile(int day) {
+        return Path.of(System.getProperty("aoc2023.html", "meta/html"), "day%d.html".formatted(day));
+    }
+
+    static Document fetch(int day, boolean offline) throws IOException {
+        var cached = cacheFile(day);
+        if (offline) {
+            return Jsoup.parse(cached.toFile(), "UTF-8");
+        }
+        String url = "https://adventofcode.com/2023/day/%d".formatted(day);
+        Document doc = Jsoup.connect(url).get();
+        Files.createDirectories(cached.getParent());
+        Files.writeString(cached, doc.outerHtml());
+        return doc;
+    }
+
+    static String getInstructionsForPart1(int day, boolean offline) {
         // Hi, given the url https://adventofcode.com/2023/day/{day} for a given day,
         // I'd want to scrape the instructions (the article tag) using jsoup and return
         // them as a string without tags.
         try {
-            String url = "https://adventofcode.com/2023/day/%d".formatted(day);
-            Document doc = Jsoup.connect(url).get();
+            Document doc = fetch(day, offline);
             Elements articleElements = doc.select("article");
+            if (articleElements.isEmpty()) {
+                return "Sorry, no instructions found for day %d".formatted(day);
+            }
             List<String> elements = new ArrayList<>();
             for (Element element : articleElements.first().children()) {
                 elements.add(element.text() + (element.tagName().equals("p") ? "\n" : ""));
@@ -156,21 +269,26 @@ public class DayGenerator {
     }
 
 
-    static void generate(int day) throws IOException {
+    static void generate(int day, boolean offline) throws IOException {
         var mainPackage = Path.of("days/src/main/java/aoc2023/day%d".formatted(day));
         var testPackage = Path.of("days/src/test/java/aoc2023/day%d".formatted(day));
+        var benchPackage = Path.of("bench/src/jmh/java/aoc2023/day%d".formatted(day));
+        var generatorPackage = Path.of("days/src/main/java/aoc2023/generator");
         if (mainPackage.toFile().mkdir() && testPackage.toFile().mkdir()) {
-            writeMain(day, mainPackage);
+            writeMain(day, mainPackage, offline);
             writeTest(day, testPackage);
+            writeBenchmark(day, benchPackage);
+            writeGenerator(day, generatorPackage);
             System.out.printf("Enjoy your newly created day %d%n", day);
+            System.out.printf("Register Day%d.puzzle() in Puzzles and Day%dGenerator in Generators%n", day, day);
         } else {
             System.out.printf("Sorry, day %d already exists%n", day);
         }
     }
 
-    private static void writeMain(int day, Path mainPackage) throws IOException {
+    private static void writeMain(int day, Path mainPackage, boolean offline) throws IOException {
         var dayClass = mainPackage.resolve(Path.of("Day%d.java".formatted(day)));
-        var instructions = getInstructionsForPart1(day);
+        var instructions = getInstructionsForPart1(day, offline);
         Files.writeString(dayClass, generateProduction(day, instructions));
     }
 
@@ -179,10 +297,30 @@ public class DayGenerator {
         Files.writeString(testClass, generateTest(day));
     }
 
+    private static void writeBenchmark(int day, Path benchPackage) throws IOException {
+        Files.createDirectories(benchPackage);
+        var benchmarkClass = benchPackage.resolve(Path.of("Day%dBenchmark.java".formatted(day)));
+        Files.writeString(benchmarkClass, generateBenchmark(day), StandardOpenOption.CREATE_NEW);
+    }
+
+    private static void writeGenerator(int day, Path generatorPackage) throws IOException {
+        var generatorClass = generatorPackage.resolve(Path.of("Day%dGenerator.java".formatted(day)));
+        Files.writeString(generatorClass, generateGenerator(day), StandardOpenOption.CREATE_NEW);
+    }
+
+    // DayGenerator [--offline] [day]
+    // --offline reads the puzzle page from the cache (meta/html, or -Daoc2023.html) instead of the network
     public static void main(String[] args) throws IOException {
-        var scanner = new Scanner(System.in);
-        System.out.print("Which day do you want to generate? ");
-        var day = scanner.nextInt();
-        generate(day);
+        var offline = args.length > 0 && args[0].equals("--offline");
+        var rest = offline ? 1 : 0;
+        int day;
+        if (args.length > rest) {
+            day = Integer.parseInt(args[rest]);
+        } else {
+            var scanner = new Scanner(System.in);
+            System.out.print("Which day do you want to generate? ");
+            day = scanner.nextInt();
+        }
+        generate(day, offline);
     }
 }
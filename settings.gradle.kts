@@ -13,3 +13,4 @@ plugins {
 rootProject.name = "aoc2023"
 include("days")
 include("meta")
+include("bench")